@@ -10,14 +10,18 @@ import kr.minex.pvpseteffect.domain.vo.PotionApplicationMode;
 import kr.minex.pvpseteffect.infrastructure.config.PluginSettings;
 import kr.minex.pvpseteffect.infrastructure.repository.YamlSetEffectRepository;
 import kr.minex.pvpseteffect.infrastructure.scheduler.PlayerRecalculationScheduler;
+import kr.minex.pvpseteffect.infrastructure.scheduler.PotionQueueScheduler;
 import kr.minex.pvpseteffect.infrastructure.scheduler.PotionReapplyScheduler;
 import kr.minex.pvpseteffect.presentation.command.SetEffectCommand;
 import kr.minex.pvpseteffect.presentation.gui.SetEffectGUI;
 import kr.minex.pvpseteffect.presentation.listener.CombatListener;
 import kr.minex.pvpseteffect.presentation.listener.EquipmentListener;
+import kr.minex.pvpseteffect.presentation.listener.PaperArmorChangeListener;
 import kr.minex.pvpseteffect.presentation.listener.GUIListener;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * PVP 세트 효과 플러그인 메인 클래스
@@ -40,6 +44,8 @@ public final class PVPSetEffectPlugin extends JavaPlugin {
     private CombatListener combatListener;
     private PlayerRecalculationScheduler recalculationScheduler;
     private PotionReapplyScheduler potionReapplyScheduler;
+    private PotionQueueScheduler potionQueueScheduler;
+    private ExecutorService recalculationExecutor;
     private int metricsTaskId = -1;
     private PluginSettings settings;
 
@@ -85,10 +91,20 @@ public final class PVPSetEffectPlugin extends JavaPlugin {
             recalculationScheduler.cancelAll();
         }
 
+        // 계산 스레드 정지 (이후 결과는 메인 스레드로 전달되지 않음)
+        if (recalculationExecutor != null) {
+            recalculationExecutor.shutdownNow();
+            recalculationExecutor = null;
+        }
+
         // 2. 포션 재적용 스케줄러 정지
         if (potionReapplyScheduler != null) {
             potionReapplyScheduler.stop();
         }
+        // 남은 포션 작업은 정지 시 모두 처리됨
+        if (potionQueueScheduler != null) {
+            potionQueueScheduler.stop();
+        }
 
         // 3. 메트릭스 태스크 취소
         if (metricsTaskId != -1) {
@@ -137,19 +153,40 @@ public final class PVPSetEffectPlugin extends JavaPlugin {
             this.combatListener.setSettings(settings.combat());
             this.playerEffectService.setCombatSettings(settings.combat());
             this.playerEffectService.setPotionSettings(settings.potion());
+            this.playerEffectService.setMatchCacheSize(settings.recalculation().matchCacheSize());
+        }
+
+        // 세트 매칭/보너스 집계는 전용 스레드에서, 결과 적용은 메인 스레드에서
+        if (settings == null || settings.recalculation().asyncCompute()) {
+            this.recalculationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "PVPSetEffect-Recalculation");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.playerEffectService.setExecutors(recalculationExecutor,
+                    task -> Bukkit.getScheduler().runTask(this, task));
         }
 
         long debounceTicks = settings != null ? settings.recalculation().debounceTicks() : 1L;
         this.recalculationScheduler = new PlayerRecalculationScheduler(this, playerEffectService, debounceTicks);
 
+        // 세트 수정 시 해당 세트에 영향받는 플레이어만 재계산
+        setEffectService.addChangeListener((setId, changedSlot) ->
+                recalculationScheduler.requestAll(playerEffectService.findAffectedPlayers(setId, changedSlot)));
+
         // NATURAL 모드일 경우 포션 재적용 스케줄러 시작
         if (settings != null && settings.potion().applicationMode() == PotionApplicationMode.NATURAL) {
             long reapplyInterval = settings.potion().natural().reapplyInterval();
             this.potionReapplyScheduler = new PotionReapplyScheduler(this, playerEffectService, reapplyInterval);
             this.potionReapplyScheduler.start();
-            getLogger().info("포션 적용 모드: NATURAL (재적용 주기: " + reapplyInterval + "틱)");
+            getLogger().info("포션 적용 모드: NATURAL (최대 확인 간격: " + reapplyInterval + "틱)");
         } else {
             getLogger().info("포션 적용 모드: IMMEDIATE");
+            int queueBudgetMicros = settings != null ? settings.potion().queue().budgetMicros() : 0;
+            if (queueBudgetMicros > 0) {
+                this.potionQueueScheduler = new PotionQueueScheduler(this, playerEffectService, queueBudgetMicros);
+                this.potionQueueScheduler.start();
+            }
         }
     }
 
@@ -170,8 +207,16 @@ public final class PVPSetEffectPlugin extends JavaPlugin {
         getServer().getPluginManager().registerEvents(
                 new GUIListener(this, setEffectGUI), this);
 
+        // Paper 서버면 방어구 변경을 PlayerArmorChangeEvent로 슬롯 단위 감지
+        boolean armorEventsAvailable = PaperArmorChangeListener.isSupported();
+        if (armorEventsAvailable) {
+            new PaperArmorChangeListener(recalculationScheduler).register(this);
+            getLogger().info("Paper PlayerArmorChangeEvent 감지: 방어구 변경을 슬롯 단위로 처리합니다.");
+        }
+
         getServer().getPluginManager().registerEvents(
-                new EquipmentListener(playerEffectService, setEffectGUI, recalculationScheduler), this);
+                new EquipmentListener(playerEffectService, setEffectGUI, recalculationScheduler,
+                        armorEventsAvailable), this);
 
         getServer().getPluginManager().registerEvents(combatListener, this);
     }
@@ -198,6 +243,15 @@ public final class PVPSetEffectPlugin extends JavaPlugin {
                 return;
             }
             getLogger().info("[metrics] " + playerEffectService.getMetricsSnapshot());
+            if (potionReapplyScheduler != null && potionReapplyScheduler.isRunning()) {
+                getLogger().info("[metrics] " + potionReapplyScheduler.getMetricsSnapshot());
+            }
+            if (potionQueueScheduler != null && potionQueueScheduler.isRunning()) {
+                getLogger().info("[metrics] " + potionQueueScheduler.getMetricsSnapshot());
+            }
+            if (combatListener != null && combatListener.hasTeamChecker()) {
+                getLogger().info("[metrics] " + combatListener.getTeamCheckCache().getMetricsSnapshot());
+            }
             if (recalculationScheduler != null && recalculationScheduler.getPendingCount() > 0) {
                 getLogger().fine("[metrics] pendingRecalculations=" + recalculationScheduler.getPendingCount());
             }
@@ -27,6 +27,9 @@ import java.util.function.BiFunction;
  * api.setTeamChecker((attacker, victim) -> {
  *     return myTeamPlugin.isSameTeam(attacker, victim);
  * });
+ *
+ * // 팀 가입/탈퇴 시 캐시된 팀 체크 결과 무효화
+ * api.invalidateTeam(player.getUniqueId());
  * </pre>
  */
 public final class SetEffectAPI {
@@ -69,18 +72,35 @@ public final class SetEffectAPI {
 
     /**
      * 모든 세트 효과 조회
+     *
+     * 호출 시점의 카탈로그 스냅샷을 반환합니다 (수정 불가, 이후 변경은 반영되지 않음).
      */
     public Collection<SetEffect> getAllSetEffects() {
         checkEnabled();
-        return PVPSetEffectPlugin.getInstance().getSetEffectService().getAllSetEffects();
+        return PVPSetEffectPlugin.getInstance().getSetEffectService().getCatalog().getSetEffects();
+    }
+
+    /**
+     * 세트 카탈로그 세대 번호 조회
+     *
+     * 세트가 생성/삭제되거나 아이템·보너스가 변경될 때마다 증가합니다.
+     * 외부 플러그인이 세트 목록을 캐시할 때 무효화 판단에 사용할 수 있습니다.
+     */
+    public long getCatalogGeneration() {
+        checkEnabled();
+        return PVPSetEffectPlugin.getInstance().getSetEffectService().getCatalog().getGeneration();
     }
 
     /**
      * 이름으로 세트 효과 조회
+     *
+     * 호출 시점의 카탈로그 스냅샷을 반환합니다 (수정 불가, 이후 변경은 반영되지 않음).
+     * 반환된 세트의 setItem/setBonus 등은 {@link IllegalStateException}을 던집니다.
      */
     public Optional<SetEffect> getSetEffect(String name) {
         checkEnabled();
-        return PVPSetEffectPlugin.getInstance().getSetEffectService().getSetEffect(name);
+        return Optional.ofNullable(
+                PVPSetEffectPlugin.getInstance().getSetEffectService().getCatalog().findByName(name));
     }
 
     /**
@@ -180,7 +200,7 @@ public final class SetEffectAPI {
         checkEnabled();
         PVPSetEffectPlugin.getInstance()
                 .getPlayerEffectService()
-                .recalculateAndApply(player);
+                .recalculateAndApply(player, true);
     }
 
     /**
@@ -206,6 +226,38 @@ public final class SetEffectAPI {
         PVPSetEffectPlugin.getInstance().setTeamChecker(checker);
     }
 
+    /**
+     * 플레이어가 포함된 팀 체크 결과 무효화
+     *
+     * 팀 체크 결과는 일정 시간 캐시되므로, 플레이어가 팀에 가입/탈퇴하면 호출해야 합니다.
+     * 비동기 스레드에서 호출해도 안전합니다.
+     *
+     * @param playerId 팀이 바뀐 플레이어 UUID
+     */
+    public void invalidateTeam(UUID playerId) {
+        checkEnabled();
+        PVPSetEffectPlugin.getInstance().getCombatListener().getTeamCheckCache().invalidate(playerId);
+    }
+
+    /**
+     * 두 플레이어 사이의 팀 체크 결과 무효화 (양방향)
+     *
+     * @param first 첫 번째 플레이어 UUID
+     * @param second 두 번째 플레이어 UUID
+     */
+    public void invalidateTeam(UUID first, UUID second) {
+        checkEnabled();
+        PVPSetEffectPlugin.getInstance().getCombatListener().getTeamCheckCache().invalidate(first, second);
+    }
+
+    /**
+     * 모든 팀 체크 결과 무효화 (팀 해체, 전체 재편성 등)
+     */
+    public void invalidateAllTeams() {
+        checkEnabled();
+        PVPSetEffectPlugin.getInstance().getCombatListener().getTeamCheckCache().clear();
+    }
+
     private void checkEnabled() {
         if (!isEnabled()) {
             throw new IllegalStateException("PVPSetEffect plugin is not enabled");
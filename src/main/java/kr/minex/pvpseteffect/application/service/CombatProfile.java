@@ -0,0 +1,126 @@
+package kr.minex.pvpseteffect.application.service;
+
+import kr.minex.pvpseteffect.domain.entity.PlayerSetState;
+import kr.minex.pvpseteffect.infrastructure.config.PluginSettings;
+
+import java.util.Objects;
+
+/**
+ * 플레이어 전투 프로필
+ *
+ * 세트 상태와 전투 설정을 재계산 시점에 한 번 결합해 둔 불변 값입니다.
+ * 피해 이벤트마다 상한 적용, 스케일 나눗셈을 반복하지 않고 필드만 읽도록 합니다.
+ * 상태 또는 {@link PluginSettings.CombatSettings}가 바뀌면 {@link PlayerEffectService}가 다시 만듭니다.
+ *
+ * 확률 값은 모두 0~1 범위이며 {@code random.nextDouble() < threshold}로 판정합니다.
+ * 보너스가 0 이하인 능력치는 0(효과 없음)으로 기록됩니다.
+ * 전투 효과가 하나도 없는 프로필({@link #hasEffect()}가 false)은 저장되지 않습니다.
+ *
+ * 최대 체력은 흡혈 회복 상한으로 쓰이며, 체력 modifier를 동기화할 때 갱신됩니다.
+ * 아직 읽지 않았거나 외부 요인으로 바뀌었을 수 있으면 {@link Double#NaN}이며, 다음 흡혈 때 한 번 읽어 채웁니다.
+ *
+ * @param evasionThreshold 회피 확률 (상한 적용)
+ * @param attackAdd 공격 시 더할 피해량
+ * @param defenseSubtract 피격 시 뺄 피해량
+ * @param criticalThreshold 치명타 확률 (상한 적용)
+ * @param criticalMultiplier 치명타 피해 배율
+ * @param lifestealChance 흡혈 발동 확률
+ * @param lifestealHeal 흡혈 발동 시 회복량
+ * @param regenAdd 자연 회복 시 더할 회복량
+ * @param maxHealth 캐시된 최대 체력 (모르면 NaN)
+ */
+public record CombatProfile(
+        double evasionThreshold,
+        double attackAdd,
+        double defenseSubtract,
+        double criticalThreshold,
+        double criticalMultiplier,
+        double lifestealChance,
+        double lifestealHeal,
+        double regenAdd,
+        double maxHealth
+) {
+
+    /**
+     * 최대 체력을 읽을 수 없을 때 사용하는 기본값
+     */
+    public static final double DEFAULT_MAX_HEALTH = 20.0;
+
+    /**
+     * 세트 상태와 전투 설정으로 프로필 생성 (최대 체력은 알 수 없음)
+     *
+     * @param state 플레이어 세트 상태
+     * @param settings 전투 설정
+     * @return 새 프로필
+     */
+    public static CombatProfile of(PlayerSetState state, PluginSettings.CombatSettings settings) {
+        return of(state, settings, Double.NaN);
+    }
+
+    /**
+     * 세트 상태와 전투 설정으로 프로필 생성
+     *
+     * @param state 플레이어 세트 상태
+     * @param settings 전투 설정
+     * @param maxHealth 캐시할 최대 체력 (모르면 NaN)
+     * @return 새 프로필
+     */
+    public static CombatProfile of(PlayerSetState state, PluginSettings.CombatSettings settings, double maxHealth) {
+        Objects.requireNonNull(state, "state cannot be null");
+        Objects.requireNonNull(settings, "settings cannot be null");
+
+        double evasion = state.getEvasionChance();
+        double attack = state.getAttackBonus();
+        double defense = state.getDefenseBonus();
+        double criticalChance = state.getCriticalChance();
+        double lifesteal = state.getLifestealAmount();
+        double regen = state.getRegenerationBonus();
+
+        return new CombatProfile(
+                evasion > 0 ? Math.min(evasion, settings.evasionMaxPercent()) / 100.0 : 0.0,
+                attack > 0 ? attack / settings.attackScale() : 0.0,
+                defense > 0 ? defense / settings.defenseScale() : 0.0,
+                criticalChance > 0 ? Math.min(criticalChance, settings.criticalChanceMaxPercent()) / 100.0 : 0.0,
+                1.0 + (state.getCriticalDamage() / settings.criticalDamageScalePercent()),
+                settings.lifesteal().triggerChance(),
+                lifesteal > 0 ? lifesteal / settings.lifesteal().healScale() : 0.0,
+                regen > 0 ? regen / settings.regenScale() : 0.0,
+                maxHealth
+        );
+    }
+
+    /**
+     * 최대 체력만 바꾼 프로필
+     *
+     * @param maxHealth 캐시할 최대 체력 (모르면 NaN)
+     * @return 새 프로필 (값이 같으면 this)
+     */
+    public CombatProfile withMaxHealth(double maxHealth) {
+        if (Double.compare(this.maxHealth, maxHealth) == 0) {
+            return this;
+        }
+        return new CombatProfile(evasionThreshold, attackAdd, defenseSubtract, criticalThreshold,
+                criticalMultiplier, lifestealChance, lifestealHeal, regenAdd, maxHealth);
+    }
+
+    /**
+     * 캐시된 최대 체력이 있는지 확인
+     */
+    public boolean hasMaxHealth() {
+        return !Double.isNaN(maxHealth);
+    }
+
+    /**
+     * 전투 이벤트에 영향을 주는 효과가 하나라도 있는지 확인
+     *
+     * 치명타 배율은 치명타 확률이 있을 때만 의미가 있으므로 따로 보지 않습니다.
+     */
+    public boolean hasEffect() {
+        return evasionThreshold > 0
+                || attackAdd > 0
+                || defenseSubtract > 0
+                || criticalThreshold > 0
+                || lifestealHeal > 0
+                || regenAdd > 0;
+    }
+}
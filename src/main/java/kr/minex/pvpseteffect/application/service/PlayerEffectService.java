@@ -1,5 +1,6 @@
 package kr.minex.pvpseteffect.application.service;
 
+import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.attribute.AttributeModifier;
@@ -9,15 +10,20 @@ import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import kr.minex.pvpseteffect.domain.entity.PlayerSetState;
 import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.vo.EquipmentFingerprint;
 import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.ItemKey;
+import kr.minex.pvpseteffect.domain.vo.ItemMatchMode;
 import kr.minex.pvpseteffect.domain.vo.PotionApplicationMode;
-import kr.minex.pvpseteffect.domain.vo.SetBonus;
 import kr.minex.pvpseteffect.domain.vo.SetItem;
 import kr.minex.pvpseteffect.infrastructure.config.PluginSettings;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -39,6 +45,11 @@ public class PlayerEffectService {
     private static final int POTION_APPLIER_DURATION_GUARD_TICKS = 20 * 60; // >= 60s면 "우리 효과"로 간주(보수적)
     private static final int MAX_POTION_AMPLIFIER = 255;
 
+    /**
+     * NATURAL 모드 갱신 예약 최대 지연 (외부 효과가 매우 길어도 이 주기로는 다시 확인)
+     */
+    private static final int MAX_REFRESH_DELAY_TICKS = 20 * 30;
+
     /**
      * 포션 적용 모드
      */
@@ -55,11 +66,79 @@ public class PlayerEffectService {
     private static final UUID HEALTH_MODIFIER_UUID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
     private static final String HEALTH_MODIFIER_NAME = "pvpseteffect.max_health";
 
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+
+    /**
+     * 스레드별 재계산 작업 버퍼 (정상 경로에서 재계산마다 새 컬렉션을 만들지 않기 위함)
+     */
+    private static final ThreadLocal<RecalculationScratch> SCRATCH =
+            ThreadLocal.withInitial(RecalculationScratch::new);
+
     private final SetEffectService setEffectService;
     private final Map<UUID, PlayerSetState> playerStates;
-    private final Map<UUID, Map<PotionEffectType, Integer>> appliedPotions;
+
+    /**
+     * 전투 이벤트용 프로필 (상태 + 전투 설정을 미리 결합, playerStates와 함께 갱신)
+     * 전투 효과가 있는 플레이어만 담으며, 비어 있으면 전투 리스너가 조회 없이 바로 반환합니다.
+     */
+    private final Map<UUID, CombatProfile> combatProfiles;
+
+    /**
+     * 플러그인이 실제로 적용한 포션 기록 (적용한 포션이 있는 플레이어만 담음)
+     */
+    private final Map<UUID, PotionLedger> appliedPotions;
     private final Map<UUID, Double> appliedHealthBonuses;
 
+    /**
+     * 마지막 재계산 시점의 장비 지문 (변경 없는 재계산 생략용)
+     */
+    private final Map<UUID, EquipmentFingerprint> equipmentFingerprints;
+
+    /**
+     * 세트 ID → 해당 세트 조각을 착용 중인 플레이어 (관리자 수정 시 대상 재계산용)
+     */
+    private final Map<String, Set<UUID>> setWearers;
+
+    /**
+     * 플레이어별 최신 계산 요청 순번 (계산 중일 때만 존재, 오래된 계산 결과 폐기용)
+     */
+    private final Map<UUID, Long> pendingSequences;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * 상태 계산 실행기 / 결과 적용 실행기 (기본값은 호출 스레드에서 즉시 실행)
+     */
+    private volatile Executor computeExecutor = Runnable::run;
+    private volatile Executor mainThreadExecutor = Runnable::run;
+
+    /**
+     * NATURAL 모드 포션 갱신 예약 대상 (없으면 예약하지 않음)
+     */
+    private volatile PotionRefreshListener potionRefreshListener;
+
+    /**
+     * IMMEDIATE 모드 포션 적용/제거 작업 큐 (없으면 재계산 중 즉시 수행)
+     */
+    private volatile PotionOperationQueue potionQueue;
+    private final PotionOperationQueue.Handler queuedPotionHandler = new PotionOperationQueue.Handler() {
+        @Override
+        public void apply(Player player, int potionId, int amplifier) {
+            if (!tryApplyPotion(player, PotionLedger.typeOf(potionId), amplifier)) {
+                forgetAppliedPotion(player.getUniqueId(), potionId, amplifier);
+            }
+        }
+
+        @Override
+        public void remove(Player player, int potionId, int amplifier) {
+            conditionalRemovePotion(player, PotionLedger.typeOf(potionId), amplifier);
+        }
+    };
+
+    /**
+     * 아이템 매칭 키 → 세트 소속 결과 캐시
+     */
+    private volatile SetMatchCache matchCache = new SetMatchCache(SetMatchCache.DEFAULT_MAX_SIZE);
+
     /**
      * 전투 설정 (체력 스케일 등)
      */
@@ -69,6 +148,15 @@ public class PlayerEffectService {
     private final LongAdder recalculationCount = new LongAdder();
     private final LongAdder recalculationNanos = new LongAdder();
     private final LongAdder potionApplyCount = new LongAdder();
+    private final LongAdder fingerprintHits = new LongAdder();
+    private final LongAdder fingerprintMisses = new LongAdder();
+    private final LongAdder incrementalRecalculationCount = new LongAdder();
+    private final LongAdder unchangedStateCount = new LongAdder();
+    private final LongAdder staleResultCount = new LongAdder();
+    private final LongAdder prefilteredClickCount = new LongAdder();
+    private final LongAdder unmarkedSlotChangeCount = new LongAdder();
+    private final LongAdder potionRefreshCount = new LongAdder();
+    private final LongAdder potionRefreshFallbackCount = new LongAdder();
 
     public PlayerEffectService(SetEffectService setEffectService) {
         this(setEffectService, Integer.MAX_VALUE);
@@ -80,25 +168,35 @@ public class PlayerEffectService {
     public PlayerEffectService(SetEffectService setEffectService, int potionDurationTicks) {
         this.setEffectService = setEffectService;
         this.playerStates = new ConcurrentHashMap<>();
+        this.combatProfiles = new ConcurrentHashMap<>();
         this.appliedPotions = new ConcurrentHashMap<>();
         this.appliedHealthBonuses = new ConcurrentHashMap<>();
+        this.equipmentFingerprints = new ConcurrentHashMap<>();
+        this.setWearers = new ConcurrentHashMap<>();
+        this.pendingSequences = new ConcurrentHashMap<>();
         this.potionDurationTicks = Math.max(1, potionDurationTicks);
         // 기본 전투 설정 (체력 스케일 1.0)
         this.combatSettings = new PluginSettings.CombatSettings(
                 2.0, 2.0, 100.0, 100.0, 100.0,
                 new PluginSettings.LifestealSettings(0.37, 2.0),
-                2.0, 0.0, 1.0
+                2.0, 0.0, 1.0,
+                new PluginSettings.TeamCacheSettings(TeamCheckCache.DEFAULT_MAX_SIZE, TeamCheckCache.DEFAULT_TTL_SECONDS)
         );
     }
 
     /**
      * 전투 설정 적용
      *
+     * 추적 중인 모든 플레이어의 전투 프로필을 새 설정으로 다시 만듭니다.
+     *
      * @param settings 전투 설정 (null이면 무시)
      */
     public void setCombatSettings(PluginSettings.CombatSettings settings) {
         if (settings != null) {
             this.combatSettings = settings;
+            for (PlayerSetState state : playerStates.values()) {
+                updateCombatProfile(state.getPlayerId(), state, settings);
+            }
         }
     }
 
@@ -116,6 +214,61 @@ public class PlayerEffectService {
         }
     }
 
+    /**
+     * 상태 계산을 별도 스레드에서 수행하도록 실행기 설정
+     *
+     * 장비 스냅샷과 포션/체력 동기화는 항상 메인 스레드에서 수행되며,
+     * 카탈로그 매칭과 보너스 집계만 computeExecutor에서 실행됩니다.
+     *
+     * @param computeExecutor 상태 계산 실행기
+     * @param mainThreadExecutor 계산 결과를 메인 스레드에서 적용할 실행기
+     */
+    public void setExecutors(Executor computeExecutor, Executor mainThreadExecutor) {
+        this.computeExecutor = Objects.requireNonNull(computeExecutor, "computeExecutor cannot be null");
+        this.mainThreadExecutor = Objects.requireNonNull(mainThreadExecutor, "mainThreadExecutor cannot be null");
+    }
+
+    /**
+     * NATURAL 모드 포션 갱신 예약 리스너 설정
+     *
+     * @param listener 리스너 (null이면 예약하지 않음)
+     */
+    public void setPotionRefreshListener(PotionRefreshListener listener) {
+        this.potionRefreshListener = listener;
+    }
+
+    /**
+     * IMMEDIATE 모드 포션 작업 큐 설정
+     *
+     * 설정하면 재계산은 포션 적용/제거를 큐에 쌓기만 하고, {@link #drainPotionOperations(long)}가 틱마다 처리합니다.
+     * 큐를 해제하면 남은 작업은 버려지며, 적용 기록에 남은 포션은 효과 정리 시 제거됩니다.
+     *
+     * @param queue 작업 큐 (null이면 재계산 중 즉시 수행)
+     */
+    public void setPotionOperationQueue(PotionOperationQueue queue) {
+        this.potionQueue = queue;
+    }
+
+    /**
+     * 대기 중인 포션 작업을 시간 예산 안에서 처리 (메인 스레드 전용)
+     *
+     * @param budgetNanos 이번 틱 처리 예산 (나노초)
+     * @return 처리한 작업 수
+     */
+    public int drainPotionOperations(long budgetNanos) {
+        PotionOperationQueue queue = potionQueue;
+        return queue == null ? 0 : queue.drain(budgetNanos, queuedPotionHandler);
+    }
+
+    /**
+     * 아이템 매칭 결과 캐시 크기 설정 (기존 캐시는 버림)
+     *
+     * @param maxSize 최대 항목 수 (0이면 캐시 비활성화)
+     */
+    public void setMatchCacheSize(int maxSize) {
+        this.matchCache = new SetMatchCache(maxSize);
+    }
+
     /**
      * 현재 포션 적용 모드 반환
      */
@@ -124,6 +277,19 @@ public class PlayerEffectService {
     }
 
     public void recalculateAndApply(Player player) {
+        recalculateAndApply(player, false);
+    }
+
+    /**
+     * 플레이어 세트 효과 재계산 및 적용
+     *
+     * 장비 지문(슬롯별 Material + 표시 이름, 카탈로그 리비전)이 마지막 재계산과 같으면
+     * 포션/체력을 건드리지 않고 즉시 반환합니다.
+     *
+     * @param player 대상 플레이어
+     * @param force true면 장비 지문과 무관하게 재계산 (NATURAL 모드 재적용, API 강제 재계산)
+     */
+    public void recalculateAndApply(Player player, boolean force) {
         if (player == null || !player.isOnline()) {
             return;
         }
@@ -133,130 +299,473 @@ public class PlayerEffectService {
         try {
             long startNanos = System.nanoTime();
 
-            PlayerSetState newState = calculatePlayerState(player);
-            playerStates.put(playerId, newState);
+            RecalculationScratch scratch = SCRATCH.get();
+            SetCatalog catalog = setEffectService.getCatalog();
+            long generation = catalog.getGeneration();
+            for (EquipmentSlot slot : SLOTS) {
+                EquipmentFingerprint.readSlot(getEquippedItem(player, slot), slot,
+                        scratch.materials, scratch.displayNames, scratch.tags);
+            }
 
-            syncPotionEffects(player, newState);
-            syncMaxHealth(player, newState);
+            // 지문 객체를 만들기 전에 버퍼와 직접 비교 (변경 없으면 할당 없음)
+            EquipmentFingerprint previous = equipmentFingerprints.get(playerId);
+            boolean unchanged = previous != null &&
+                    previous.matches(scratch.materials, scratch.displayNames, scratch.tags, generation);
 
-            if (newState.hasAnyBonus()) {
-                LOGGER.fine(() -> String.format("플레이어 %s 세트 효과 적용: %s",
-                        player.getName(), newState.toString()));
+            if (!force) {
+                // 계산 중인 결과가 있으면 그 결과가 곧 덮어쓰므로 지문 비교를 신뢰할 수 없음
+                if (unchanged && playerStates.containsKey(playerId) && !pendingSequences.containsKey(playerId)) {
+                    fingerprintHits.increment();
+                    return;
+                }
+                fingerprintMisses.increment();
             }
 
-            recalculationCount.increment();
-            recalculationNanos.add(System.nanoTime() - startNanos);
+            // 메인 스레드에서는 슬롯 스냅샷(지문)만 만들고, 카탈로그 매칭은 계산 스레드에 맡김
+            EquipmentFingerprint fingerprint = unchanged ? previous :
+                    EquipmentFingerprint.of(scratch.materials, scratch.displayNames, scratch.tags, generation);
+            long sequence = nextSequence.incrementAndGet();
+            pendingSequences.put(playerId, sequence);
+
+            try {
+                computeExecutor.execute(() -> computeAndHandBack(player, fingerprint, catalog, sequence, startNanos));
+            } catch (RuntimeException e) {
+                // 계산 스레드가 정지되어 예약이 거부되면 계산 중 표시가 남지 않도록 정리
+                pendingSequences.remove(playerId, sequence);
+                retryPotionRefresh(player);
+                throw e;
+            }
         } catch (Exception e) {
             LOGGER.warning(() -> String.format("플레이어 %s 세트 효과 계산 중 오류: %s",
                     player.getName(), e.getMessage()));
         }
     }
 
-    private PlayerSetState calculatePlayerState(Player player) {
-        PlayerSetState state = new PlayerSetState(player.getUniqueId());
+    /**
+     * NATURAL 모드 포션 지속시간 갱신
+     *
+     * 장비를 다시 읽거나 세트를 매칭하지 않고, 마지막으로 계산된 상태의 포션만 재적용합니다.
+     * 남은 시간이 충분한 효과는 건드리지 않으며 곧 만료될 효과만 다시 부여합니다.
+     * 동기화 후 다음 갱신 시점을 {@link PotionRefreshListener}에 다시 예약합니다.
+     * 상태가 없거나 세트 카탈로그가 바뀌어 상태가 오래되었으면 전체 재계산으로 대체합니다.
+     *
+     * @param player 대상 플레이어
+     */
+    public void refreshPotions(Player player) {
+        if (player == null || !player.isOnline() || potionApplicationMode != PotionApplicationMode.NATURAL) {
+            return;
+        }
+
+        UUID playerId = player.getUniqueId();
+        // 계산 중인 결과가 적용되면 그때 포션이 동기화되지만, 계산이 실패할 수 있으므로 다음 틱에 다시 확인
+        if (pendingSequences.containsKey(playerId)) {
+            retryPotionRefresh(player);
+            return;
+        }
+
+        PlayerSetState state = playerStates.get(playerId);
+        EquipmentFingerprint fingerprint = equipmentFingerprints.get(playerId);
+        if (state == null || fingerprint == null ||
+                fingerprint.getCatalogRevision() != setEffectService.getCatalog().getGeneration()) {
+            potionRefreshFallbackCount.increment();
+            recalculateAndApply(player, true);
+            return;
+        }
+
+        if (state.getPotionBonusCount() == 0 && !appliedPotions.containsKey(playerId)) {
+            cancelPotionRefresh(playerId);
+            return;
+        }
+
+        try {
+            syncPotionEffects(player, state);
+            potionRefreshCount.increment();
+        } catch (Exception e) {
+            LOGGER.fine(() -> String.format("플레이어 %s 포션 갱신 중 오류 (무시됨): %s",
+                    player.getName(), e.getMessage()));
+        }
+    }
+
+    /**
+     * 변경된 슬롯만 반영하는 증분 재계산
+     *
+     * 변경된 슬롯이 기여하던 세트 조각 수만 조정하고, 보너스는 착용 중인 세트(최대 5개)로부터만 다시 계산합니다.
+     * 변경 표시가 없는 슬롯도 Material이 달라졌으면 함께 다시 읽습니다 (이벤트 없이 바뀐 방어구 반영).
+     * 이전 상태가 없거나 세트 카탈로그가 바뀌었으면 전체 재계산으로 대체합니다.
+     *
+     * @param player 대상 플레이어
+     * @param dirtySlots 변경된 슬롯 비트 마스크 ({@link EquipmentSlot#getMask()}의 조합)
+     */
+    public void recalculateSlots(Player player, int dirtySlots) {
+        if (player == null || !player.isOnline()) {
+            return;
+        }
 
-        Map<EquipmentSlot, ItemStack> equipment = getPlayerEquipment(player);
+        UUID playerId = player.getUniqueId();
+        PlayerSetState previousState = playerStates.get(playerId);
+        EquipmentFingerprint previous = equipmentFingerprints.get(playerId);
+        SetCatalog catalog = setEffectService.getCatalog();
+
+        if (previousState == null || previous == null ||
+                pendingSequences.containsKey(playerId) ||
+                previous.getCatalogRevision() != catalog.getGeneration() ||
+                (dirtySlots & EquipmentSlot.ALL_SLOTS_MASK) == EquipmentSlot.ALL_SLOTS_MASK) {
+            recalculateAndApply(player);
+            return;
+        }
 
-        for (SetEffect setEffect : setEffectService.getAllSetEffects()) {
-            int matchedPieces = countMatchedPieces(setEffect, equipment);
+        try {
+            long startNanos = System.nanoTime();
 
-            if (matchedPieces > 0) {
-                state.setActiveSetPieces(setEffect.getId(), matchedPieces);
+            RecalculationScratch scratch = SCRATCH.get();
+            previous.copyInto(scratch.materials, scratch.displayNames, scratch.tags);
+            dirtySlots |= findChangedMaterialSlots(player, previous, dirtySlots);
+            for (EquipmentSlot slot : SLOTS) {
+                if ((dirtySlots & slot.getMask()) != 0) {
+                    EquipmentFingerprint.readSlot(getEquippedItem(player, slot), slot,
+                            scratch.materials, scratch.displayNames, scratch.tags);
+                }
+            }
 
-                List<SetBonus> activeBonuses = setEffect.getActiveBonuses(matchedPieces);
-                state.applyBonuses(activeBonuses);
+            if (previous.matches(scratch.materials, scratch.displayNames, scratch.tags,
+                    previous.getCatalogRevision())) {
+                fingerprintHits.increment();
+                return;
             }
+            fingerprintMisses.increment();
+
+            // 이전 조각 수에서 변경된 슬롯의 기여분만 빼고 더함
+            scratch.clearPieces();
+            for (int i = 0; i < previousState.getActiveSetCount(); i++) {
+                SetEffect setEffect = catalog.findById(previousState.getActiveSetId(i));
+                if (setEffect != null) {
+                    scratch.addPieces(setEffect, previousState.getActiveSetPiecesAt(i));
+                }
+            }
+
+            SetMatchCache cache = matchCache;
+            for (EquipmentSlot slot : SLOTS) {
+                int index = slot.getIndex();
+                if ((dirtySlots & slot.getMask()) == 0 ||
+                        previous.matchesSlot(slot, scratch.materials[index], scratch.displayNames[index],
+                                scratch.tags[index])) {
+                    continue;
+                }
+                scratch.addPieces(cache.lookup(catalog, slot, previous.getItemKey(slot)), -1);
+                scratch.addPieces(cache.lookup(catalog, slot, ItemKey.of(scratch.materials[index],
+                        scratch.displayNames[index], scratch.tags[index])), 1);
+            }
+
+            EquipmentFingerprint fingerprint = EquipmentFingerprint.of(
+                    scratch.materials, scratch.displayNames, scratch.tags, previous.getCatalogRevision());
+            applyState(player, buildState(playerId, scratch), fingerprint, startNanos);
+            incrementalRecalculationCount.increment();
+        } catch (Exception e) {
+            LOGGER.warning(() -> String.format("플레이어 %s 세트 효과 증분 계산 중 오류: %s",
+                    player.getName(), e.getMessage()));
         }
+    }
 
-        return state;
+    /**
+     * 변경 표시가 없지만 Material이 달라진 슬롯 찾기
+     *
+     * 다른 플러그인의 setHelmet, 디스펜서 착용, 내구도 소진 파괴처럼 이벤트 없이 바뀐 방어구는
+     * 변경 표시가 없으므로, 이전 지문을 그대로 복사하기 전에 Material만 비교해 다시 읽을 슬롯에 포함합니다.
+     * (메타는 읽지 않으므로 Material이 같은 아이템으로 바뀐 경우는 다음 전체 재계산에서 반영됨)
+     */
+    private int findChangedMaterialSlots(Player player, EquipmentFingerprint previous, int dirtySlots) {
+        int changed = 0;
+        for (EquipmentSlot slot : SLOTS) {
+            if ((dirtySlots & slot.getMask()) != 0) {
+                continue;
+            }
+            ItemStack item = getEquippedItem(player, slot);
+            Material material = item == null || item.getType() == Material.AIR ? null : item.getType();
+            if (material != previous.getMaterial(slot)) {
+                changed |= slot.getMask();
+            }
+        }
+        if (changed != 0) {
+            unmarkedSlotChangeCount.increment();
+        }
+        return changed;
     }
 
-    private Map<EquipmentSlot, ItemStack> getPlayerEquipment(Player player) {
-        Map<EquipmentSlot, ItemStack> equipment = new EnumMap<>(EquipmentSlot.class);
+    /**
+     * 계산 스레드: 지문으로부터 상태를 계산하고 메인 스레드로 넘김
+     *
+     * 메인 스레드에서 순번이 여전히 최신일 때만 적용하며, 그사이 새 요청이 들어왔으면 결과를 버립니다.
+     */
+    private void computeAndHandBack(Player player, EquipmentFingerprint fingerprint, SetCatalog catalog,
+                                    long sequence, long startNanos) {
+        UUID playerId = player.getUniqueId();
+        PlayerSetState state;
+        try {
+            state = computeState(playerId, fingerprint, catalog);
+        } catch (Exception e) {
+            pendingSequences.remove(playerId, sequence);
+            retryPotionRefresh(player);
+            LOGGER.warning(() -> String.format("플레이어 %s 세트 효과 계산 중 오류: %s",
+                    player.getName(), e.getMessage()));
+            return;
+        }
 
-        equipment.put(EquipmentSlot.HELMET, player.getInventory().getHelmet());
-        equipment.put(EquipmentSlot.CHESTPLATE, player.getInventory().getChestplate());
-        equipment.put(EquipmentSlot.LEGGINGS, player.getInventory().getLeggings());
-        equipment.put(EquipmentSlot.BOOTS, player.getInventory().getBoots());
-        equipment.put(EquipmentSlot.WEAPON, player.getInventory().getItemInMainHand());
+        try {
+            mainThreadExecutor.execute(() -> {
+                if (!pendingSequences.remove(playerId, sequence)) {
+                    staleResultCount.increment();
+                    return;
+                }
+                if (!player.isOnline()) {
+                    return;
+                }
+                try {
+                    applyState(player, state, fingerprint, startNanos);
+                } catch (Exception e) {
+                    retryPotionRefresh(player);
+                    LOGGER.warning(() -> String.format("플레이어 %s 세트 효과 적용 중 오류: %s",
+                            player.getName(), e.getMessage()));
+                }
+            });
+        } catch (Exception e) {
+            // 플러그인 비활성화 중에는 메인 스레드 예약이 거부될 수 있음
+            pendingSequences.remove(playerId, sequence);
+            retryPotionRefresh(player);
+            LOGGER.fine(() -> String.format("플레이어 %s 계산 결과 전달 실패 (무시됨): %s",
+                    player.getName(), e.getMessage()));
+        }
+    }
 
-        return equipment;
+    /**
+     * 지문과 카탈로그 스냅샷만으로 상태 계산 (Bukkit API를 사용하지 않으므로 어느 스레드에서나 호출 가능)
+     */
+    private PlayerSetState computeState(UUID playerId, EquipmentFingerprint fingerprint, SetCatalog catalog) {
+        RecalculationScratch scratch = SCRATCH.get();
+        scratch.clearPieces();
+        SetMatchCache cache = matchCache;
+        for (EquipmentSlot slot : SLOTS) {
+            if (fingerprint.getMaterial(slot) != null) {
+                scratch.addPieces(cache.lookup(catalog, slot, fingerprint.getItemKey(slot)), 1);
+            }
+        }
+        return buildState(playerId, scratch);
     }
 
-    private int countMatchedPieces(SetEffect setEffect, Map<EquipmentSlot, ItemStack> equipment) {
-        int count = 0;
+    private void applyState(Player player, PlayerSetState newState, EquipmentFingerprint fingerprint, long startNanos) {
+        UUID playerId = player.getUniqueId();
+        equipmentFingerprints.put(playerId, fingerprint);
+
+        // 결과 상태가 이전과 같으면 포션/체력 동기화 생략 (NATURAL 모드는 지속시간 갱신이 필요하므로 제외)
+        PlayerSetState previousState = playerStates.get(playerId);
+        if (newState.equals(previousState) && potionApplicationMode != PotionApplicationMode.NATURAL) {
+            unchangedStateCount.increment();
+            // 장비 속성으로 최대 체력이 바뀌었을 수 있으므로 다음 흡혈 때 다시 읽음
+            invalidateMaxHealth(playerId);
+            recalculationCount.increment();
+            recalculationNanos.add(System.nanoTime() - startNanos);
+            return;
+        }
 
-        for (EquipmentSlot slot : EquipmentSlot.values()) {
-            SetItem setItem = setEffect.getItem(slot);
-            ItemStack playerItem = equipment.get(slot);
+        playerStates.put(playerId, newState);
+        updateCombatProfile(playerId, newState, combatSettings);
+        updateWearerIndex(playerId, previousState, newState);
 
-            if (setItem != null && setItem.matches(playerItem)) {
-                count++;
-            }
+        syncPotionEffects(player, newState);
+        syncMaxHealth(player, newState);
+
+        if (newState.hasAnyBonus() && LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("플레이어 %s 세트 효과 적용: %s",
+                    player.getName(), newState.toString()));
         }
 
-        return count;
+        recalculationCount.increment();
+        recalculationNanos.add(System.nanoTime() - startNanos);
     }
 
-    private void syncPotionEffects(Player player, PlayerSetState state) {
-        UUID playerId = player.getUniqueId();
-        Map<PotionEffectType, Integer> previous = appliedPotions.getOrDefault(playerId, Collections.emptyMap());
-        Map<PotionEffectType, Integer> desired = new HashMap<>();
+    private PlayerSetState buildState(UUID playerId, RecalculationScratch scratch) {
+        PlayerSetState.Builder state = scratch.builder.reset(playerId);
 
-        for (Map.Entry<PotionEffectType, Integer> entry : state.getAllPotionBonuses().entrySet()) {
-            PotionEffectType type = entry.getKey();
-            if (type == null) {
+        for (int i = 0; i < scratch.setCount; i++) {
+            SetEffect setEffect = scratch.sets[i];
+            int pieces = scratch.pieces[i];
+            if (pieces <= 0) {
                 continue;
             }
 
-            int level = entry.getValue();
-            int amplifier = Math.max(0, Math.min(MAX_POTION_AMPLIFIER, level - 1));
-            desired.put(type, amplifier);
+            state.setActiveSetPieces(setEffect.getId(), pieces);
+            state.applyBonusTable(setEffect.getBonusTable(), pieces);
         }
 
-        // IMMEDIATE 모드에서만 기존 효과 제거 (NATURAL 모드는 자연 만료)
+        scratch.clearPieces();
+        return state.build();
+    }
+
+    private ItemStack getEquippedItem(Player player, EquipmentSlot slot) {
+        switch (slot) {
+            case HELMET:
+                return player.getInventory().getHelmet();
+            case CHESTPLATE:
+                return player.getInventory().getChestplate();
+            case LEGGINGS:
+                return player.getInventory().getLeggings();
+            case BOOTS:
+                return player.getInventory().getBoots();
+            case WEAPON:
+                return player.getInventory().getItemInMainHand();
+            default:
+                return null;
+        }
+    }
+
+    private void syncPotionEffects(Player player, PlayerSetState state) {
+        UUID playerId = player.getUniqueId();
+        PotionLedger ledger = appliedPotions.get(playerId);
+        long previousMask = ledger == null ? 0L : ledger.getOwnedMask();
+        RecalculationScratch scratch = SCRATCH.get();
+        int desiredCount = state.getPotionBonusCount();
+        scratch.ensurePotionCapacity(desiredCount);
+
+        long desiredMask = 0L;
+        for (int i = 0; i < desiredCount; i++) {
+            PotionEffectType type = state.getPotionTypeAt(i);
+            int id = type == null ? -1 : PotionLedger.idOf(type);
+            scratch.potionIds[i] = id;
+            if (id >= 0) {
+                desiredMask |= PotionLedger.bit(id);
+            }
+        }
+
+        // IMMEDIATE 모드에서만 더 이상 원하지 않는 효과 제거 (NATURAL 모드는 자연 만료)
         if (potionApplicationMode == PotionApplicationMode.IMMEDIATE) {
-            for (Map.Entry<PotionEffectType, Integer> prev : previous.entrySet()) {
-                PotionEffectType type = prev.getKey();
-                if (!desired.containsKey(type)) {
-                    conditionalRemovePotion(player, type, prev.getValue());
-                }
+            for (long stale = previousMask & ~desiredMask; stale != 0L; stale &= stale - 1) {
+                int id = Long.numberOfTrailingZeros(stale);
+                removePotion(player, id, ledger.getAmplifier(id));
             }
         }
 
-        Map<PotionEffectType, Integer> actuallyApplied = new HashMap<>();
+        long appliedMask = 0L;
+        int refreshDelay = MAX_REFRESH_DELAY_TICKS;
 
         // Apply/upgrade desired potions.
-        for (Map.Entry<PotionEffectType, Integer> want : desired.entrySet()) {
-            PotionEffectType type = want.getKey();
-            int amplifier = want.getValue();
+        for (int i = 0; i < desiredCount; i++) {
+            PotionEffectType type = state.getPotionTypeAt(i);
+            if (type == null) {
+                continue;
+            }
+            int id = scratch.potionIds[i];
+            int amplifier = Math.max(0, Math.min(MAX_POTION_AMPLIFIER, state.getPotionLevelAt(i) - 1));
+            int prevAmp = ledger == null ? -1 : ledger.getAmplifier(id);
 
-            // NATURAL 모드
+            boolean applied;
             if (potionApplicationMode == PotionApplicationMode.NATURAL) {
-                // 새로 장착한 경우 (previous에 없음) vs 스케줄러 재적용 구분
-                boolean isNewApplication = !previous.containsKey(type);
-                if (tryApplyPotionNatural(player, type, amplifier, isNewApplication)) {
-                    actuallyApplied.put(type, amplifier);
+                // 새로 장착한 경우 (기록에 없음) vs 스케줄러 재적용 구분
+                int delay = tryApplyPotionNatural(player, type, amplifier, prevAmp < 0);
+                applied = delay > 0;
+                refreshDelay = Math.min(refreshDelay, Math.abs(delay));
+            } else {
+                // IMMEDIATE 모드: 변경 없으면 스킵
+                applied = prevAmp == amplifier || applyPotion(player, id, type, amplifier);
+            }
+
+            if (applied && id >= 0) {
+                if (ledger == null) {
+                    ledger = new PotionLedger();
                 }
-                continue;
+                ledger.setAmplifier(id, amplifier);
+                appliedMask |= PotionLedger.bit(id);
+            } else if (applied) {
+                LOGGER.warning(() -> String.format("포션 %s 번호를 부여할 수 없어 적용 기록에서 제외됩니다", type));
             }
+        }
 
-            // IMMEDIATE 모드: 변경 없으면 스킵
-            Integer prevAmp = previous.get(type);
-            if (prevAmp != null && prevAmp == amplifier) {
-                actuallyApplied.put(type, amplifier);
-                continue;
+        if (appliedMask == 0L) {
+            if (previousMask != 0L) {
+                appliedPotions.remove(playerId);
             }
+        } else {
+            ledger.setOwnedMask(appliedMask);
+            if (previousMask == 0L) {
+                appliedPotions.put(playerId, ledger);
+            }
+        }
 
-            if (tryApplyPotion(player, type, amplifier)) {
-                actuallyApplied.put(type, amplifier);
+        if (potionApplicationMode == PotionApplicationMode.NATURAL) {
+            if (desiredCount > 0) {
+                schedulePotionRefresh(player, refreshDelay);
+            } else {
+                cancelPotionRefresh(playerId);
             }
         }
+    }
+
+    private void schedulePotionRefresh(Player player, int delayTicks) {
+        PotionRefreshListener listener = potionRefreshListener;
+        if (listener != null) {
+            listener.onRefreshScheduled(player, Math.max(1, Math.min(MAX_REFRESH_DELAY_TICKS, delayTicks)));
+        }
+    }
+
+    /**
+     * 계산이 끝나지 않았거나 실패해 포션이 동기화되지 않은 경우 다음 틱에 다시 갱신 (NATURAL 모드 전용)
+     * 갱신 예약이 이미 소비된 상태이므로, 다시 예약하지 않으면 효과가 만료된 뒤 재적용되지 않습니다.
+     */
+    private void retryPotionRefresh(Player player) {
+        if (potionApplicationMode == PotionApplicationMode.NATURAL) {
+            schedulePotionRefresh(player, 1);
+        }
+    }
 
-        if (actuallyApplied.isEmpty()) {
+    private void cancelPotionRefresh(UUID playerId) {
+        PotionRefreshListener listener = potionRefreshListener;
+        if (listener != null) {
+            listener.onRefreshCancelled(playerId);
+        }
+    }
+
+    private void cancelPotionOperations(UUID playerId) {
+        PotionOperationQueue queue = potionQueue;
+        if (queue != null) {
+            queue.cancel(playerId);
+        }
+    }
+
+    /**
+     * IMMEDIATE 모드 포션 적용 (작업 큐가 있으면 예약하고 적용된 것으로 간주, 실패는 처리 시 기록에서 제외)
+     */
+    private boolean applyPotion(Player player, int id, PotionEffectType type, int amplifier) {
+        PotionOperationQueue queue = potionQueue;
+        if (queue == null || id < 0) {
+            return tryApplyPotion(player, type, amplifier);
+        }
+        queue.enqueueApply(player, id, amplifier);
+        return true;
+    }
+
+    /**
+     * IMMEDIATE 모드 포션 제거 (작업 큐가 있으면 예약)
+     */
+    private void removePotion(Player player, int id, int amplifier) {
+        PotionOperationQueue queue = potionQueue;
+        if (queue == null) {
+            conditionalRemovePotion(player, PotionLedger.typeOf(id), amplifier);
+        } else {
+            queue.enqueueRemove(player, id, amplifier);
+        }
+    }
+
+    /**
+     * 예약했던 적용이 실패하면 적용 기록에서 제외 (그 사이 다른 레벨로 바뀌었으면 유지)
+     */
+    private void forgetAppliedPotion(UUID playerId, int id, int amplifier) {
+        PotionLedger ledger = appliedPotions.get(playerId);
+        if (ledger == null || ledger.getAmplifier(id) != amplifier) {
+            return;
+        }
+        long remaining = ledger.getOwnedMask() & ~PotionLedger.bit(id);
+        if (remaining == 0L) {
             appliedPotions.remove(playerId);
         } else {
-            appliedPotions.put(playerId, actuallyApplied);
+            ledger.setOwnedMask(remaining);
         }
     }
 
@@ -279,25 +788,28 @@ public class PlayerEffectService {
     /**
      * NATURAL 모드용 포션 적용 (짧은 지속시간)
      *
+     * 반환값의 절댓값은 이 효과를 다시 확인해야 하는 시점(틱)입니다.
+     * 남은 시간이 재적용 간격의 절반 미만으로 떨어지는 틱이며, 더 강한 외부 효과가 있으면 그 효과가 끝나는 틱입니다.
+     *
      * @param player 대상 플레이어
      * @param type 포션 효과 타입
      * @param amplifier 포션 레벨 (0부터 시작)
      * @param isNewApplication 새로 장착한 경우 true (스케줄러 재적용은 false)
-     * @return 적용 성공 여부
+     * @return 적용되었으면 양수, 적용되지 않았으면 음수 (절댓값은 다음 확인까지의 틱)
      */
-    private boolean tryApplyPotionNatural(Player player, PotionEffectType type, int amplifier, boolean isNewApplication) {
+    private int tryApplyPotionNatural(Player player, PotionEffectType type, int amplifier, boolean isNewApplication) {
+        int halfInterval = naturalEffectDuration / 2;
         PotionEffect existing = player.getPotionEffect(type);
         if (existing != null && existing.getAmplifier() > amplifier) {
-            // 더 강한 외부 효과가 있으면 덮어쓰지 않음
-            return false;
+            // 더 강한 외부 효과가 있으면 덮어쓰지 않음 (끝나면 다시 확인)
+            return -refreshDelay(existing.getDuration() + 1);
         }
 
         // 스케줄러 재적용 시에만 스킵 로직 적용 (새로 장착한 경우는 즉시 적용)
         if (!isNewApplication && existing != null && existing.getAmplifier() == amplifier) {
             // 남은 시간이 재적용 간격의 절반 이상이면 스킵
-            int halfInterval = naturalEffectDuration / 2;
             if (existing.getDuration() >= halfInterval) {
-                return true; // 이미 적용됨으로 간주
+                return refreshDelay(existing.getDuration() - halfInterval + 1); // 이미 적용됨으로 간주
             }
         }
 
@@ -306,10 +818,19 @@ public class PlayerEffectService {
                 new PotionEffect(type, naturalEffectDuration, amplifier, true, false, false),
                 force
         );
+        int delay = refreshDelay(naturalEffectDuration - halfInterval + 1);
         if (applied) {
             potionApplyCount.increment();
+            return delay;
         }
-        return applied;
+        return -delay;
+    }
+
+    /**
+     * 다음 확인까지의 틱을 1 ~ {@link #MAX_REFRESH_DELAY_TICKS} 범위로 제한 (무한 지속 효과는 최대값)
+     */
+    private static int refreshDelay(int ticks) {
+        return ticks <= 0 ? MAX_REFRESH_DELAY_TICKS : Math.min(MAX_REFRESH_DELAY_TICKS, ticks);
     }
 
     private void conditionalRemovePotion(Player player, PotionEffectType type, int amplifier) {
@@ -350,8 +871,9 @@ public class PlayerEffectService {
         double healthBonus = state.getMaxHealthBonus();
         Double previousBonus = appliedHealthBonuses.get(playerId);
 
-        // 변경이 없으면 스킵
+        // 변경이 없으면 스킵 (장비 속성 등 외부 변화는 반영)
         if (previousBonus != null && Math.abs(previousBonus - healthBonus) < 0.001) {
+            refreshMaxHealth(player);
             return;
         }
 
@@ -376,8 +898,10 @@ public class PlayerEffectService {
                 attribute.addModifier(modifier);
                 appliedHealthBonuses.put(playerId, healthBonus);
 
-                LOGGER.fine(() -> String.format("플레이어 %s 최대 체력 +%.1f (보너스: %.1f)",
-                        player.getName(), actualBonus, healthBonus));
+                if (LOGGER.isLoggable(Level.FINE)) {
+                    LOGGER.fine(String.format("플레이어 %s 최대 체력 +%.1f (보너스: %.1f)",
+                            player.getName(), actualBonus, healthBonus));
+                }
             } else {
                 appliedHealthBonuses.remove(playerId);
             }
@@ -387,6 +911,8 @@ public class PlayerEffectService {
             if (player.getHealth() > maxHealth) {
                 player.setHealth(maxHealth);
             }
+            combatProfiles.computeIfPresent(playerId, (id, profile) ->
+                    profile.withMaxHealth(maxHealth > 0 ? maxHealth : CombatProfile.DEFAULT_MAX_HEALTH));
 
         } catch (Exception e) {
             LOGGER.warning(() -> String.format("플레이어 %s 최대 체력 설정 중 오류: %s",
@@ -398,11 +924,21 @@ public class PlayerEffectService {
      * 플러그인이 적용한 체력 modifier 제거
      */
     private void removeHealthModifier(AttributeInstance attribute) {
-        // Some implementations back this by a mutable set; copy first to avoid ConcurrentModificationException.
-        new ArrayList<>(attribute.getModifiers()).stream()
-                .filter(m -> HEALTH_MODIFIER_UUID.equals(m.getUniqueId()) ||
-                        HEALTH_MODIFIER_NAME.equals(m.getName()))
-                .forEach(attribute::removeModifier);
+        // Some implementations back this by a mutable set; never remove while iterating it.
+        AttributeModifier found;
+        do {
+            found = null;
+            for (AttributeModifier modifier : attribute.getModifiers()) {
+                if (HEALTH_MODIFIER_UUID.equals(modifier.getUniqueId()) ||
+                        HEALTH_MODIFIER_NAME.equals(modifier.getName())) {
+                    found = modifier;
+                    break;
+                }
+            }
+            if (found != null) {
+                attribute.removeModifier(found);
+            }
+        } while (found != null);
     }
 
     /**
@@ -424,36 +960,227 @@ public class PlayerEffectService {
         return playerStates.get(playerId);
     }
 
+    /**
+     * 전투 프로필 조회
+     *
+     * @param playerId 플레이어 UUID
+     * @return 전투 프로필, 전투 효과가 없거나 추적 중이 아니면 null
+     */
+    public CombatProfile getCombatProfile(UUID playerId) {
+        return combatProfiles.get(playerId);
+    }
+
+    /**
+     * 전투 효과가 있는 플레이어가 한 명이라도 있는지 확인 (플레이어별 조회 없음)
+     */
+    public boolean hasCombatProfiles() {
+        return !combatProfiles.isEmpty();
+    }
+
+    /**
+     * 캐시된 최대 체력을 속성 값으로 갱신
+     *
+     * 전투 프로필이 없는 플레이어는 아무것도 하지 않고 속성 값만 반환합니다.
+     *
+     * @param player 대상 플레이어
+     * @return 현재 최대 체력 (읽을 수 없으면 {@link CombatProfile#DEFAULT_MAX_HEALTH})
+     */
+    public double refreshMaxHealth(Player player) {
+        double maxHealth = readMaxHealth(player);
+        combatProfiles.computeIfPresent(player.getUniqueId(), (id, profile) -> profile.withMaxHealth(maxHealth));
+        return maxHealth;
+    }
+
+    /**
+     * 캐시된 최대 체력 무효화 (외부 요인으로 최대 체력이 바뀌었을 수 있을 때)
+     *
+     * 다음 흡혈 시 {@link #refreshMaxHealth(Player)}로 다시 읽습니다.
+     *
+     * @param playerId 플레이어 UUID
+     */
+    public void invalidateMaxHealth(UUID playerId) {
+        combatProfiles.computeIfPresent(playerId, (id, profile) -> profile.withMaxHealth(Double.NaN));
+    }
+
+    private static double readMaxHealth(Player player) {
+        try {
+            AttributeInstance attribute = player.getAttribute(Attribute.GENERIC_MAX_HEALTH);
+            if (attribute != null) {
+                double value = attribute.getValue();
+                if (value > 0) {
+                    return value;
+                }
+            }
+        } catch (Throwable ignored) {
+            // Keep compatibility with older APIs / mocks.
+        }
+        return CombatProfile.DEFAULT_MAX_HEALTH;
+    }
+
+    private void updateCombatProfile(UUID playerId, PlayerSetState state, PluginSettings.CombatSettings settings) {
+        // 캐시된 최대 체력은 상태/설정과 무관하므로 이어받음
+        CombatProfile previous = combatProfiles.get(playerId);
+        CombatProfile profile = CombatProfile.of(state, settings, previous == null ? Double.NaN : previous.maxHealth());
+        if (profile.hasEffect()) {
+            combatProfiles.put(playerId, profile);
+        } else {
+            combatProfiles.remove(playerId);
+        }
+    }
+
     public PlayerSetState getPlayerStateOrEmpty(UUID playerId) {
-        return playerStates.getOrDefault(playerId, new PlayerSetState(playerId));
+        PlayerSetState state = playerStates.get(playerId);
+        return state != null ? state : new PlayerSetState(playerId);
+    }
+
+    /**
+     * 세트 착용자 역색인 갱신 (이전/새 상태의 활성 세트 차이만 반영)
+     */
+    private void updateWearerIndex(UUID playerId, PlayerSetState previousState, PlayerSetState newState) {
+        if (previousState != null) {
+            for (int i = 0; i < previousState.getActiveSetCount(); i++) {
+                String setId = previousState.getActiveSetId(i);
+                if (newState == null || newState.getActiveSetPieces(setId) == 0) {
+                    setWearers.computeIfPresent(setId, (id, wearers) -> {
+                        wearers.remove(playerId);
+                        return wearers.isEmpty() ? null : wearers;
+                    });
+                }
+            }
+        }
+        if (newState != null) {
+            for (int i = 0; i < newState.getActiveSetCount(); i++) {
+                String setId = newState.getActiveSetId(i);
+                if (previousState == null || previousState.getActiveSetPieces(setId) == 0) {
+                    setWearers.computeIfAbsent(setId, id -> ConcurrentHashMap.newKeySet()).add(playerId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 세트 조각을 착용 중인 플레이어 목록
+     *
+     * @param setId 세트 ID
+     * @return 플레이어 UUID 목록 (수정 불가)
+     */
+    public Set<UUID> getPlayersWearing(String setId) {
+        Set<UUID> wearers = setId == null ? null : setWearers.get(setId);
+        return wearers == null ? Collections.emptySet() : Collections.unmodifiableSet(wearers);
+    }
+
+    /**
+     * 세트 변경으로 결과가 달라질 수 있는 플레이어 목록
+     *
+     * 현재 착용자는 항상 포함됩니다. 아이템이 바뀐 경우 해당 슬롯에 새 아이템과 같은 Material을 착용한
+     * 플레이어도 포함합니다 (아직 이 세트를 세지 않았지만 새로 매칭될 수 있음).
+     *
+     * @param setId 변경된 세트 ID
+     * @param changedSlot 아이템이 바뀐 슬롯 (보너스만 바뀌었으면 null)
+     * @return 재계산 대상 플레이어 UUID 목록
+     */
+    public Set<UUID> findAffectedPlayers(String setId, EquipmentSlot changedSlot) {
+        Set<UUID> affected = new HashSet<>(getPlayersWearing(setId));
+        if (changedSlot == null) {
+            return affected;
+        }
+
+        SetEffect setEffect = setEffectService.getCatalog().findById(setId);
+        SetItem item = setEffect == null ? null : setEffect.getItem(changedSlot);
+        if (item == null || item.isEmpty()) {
+            return affected;
+        }
+
+        boolean byTag = item.getMatchMode() == ItemMatchMode.TAG;
+        for (Map.Entry<UUID, EquipmentFingerprint> entry : equipmentFingerprints.entrySet()) {
+            EquipmentFingerprint fingerprint = entry.getValue();
+            if (byTag ? item.getTag().equals(fingerprint.getTag(changedSlot))
+                    : fingerprint.getMaterial(changedSlot) == item.getMaterial()) {
+                affected.add(entry.getKey());
+            }
+        }
+        return affected;
     }
 
     public void removePlayerState(UUID playerId) {
+        pendingSequences.remove(playerId);
+        cancelPotionRefresh(playerId);
+        cancelPotionOperations(playerId);
+        updateWearerIndex(playerId, playerStates.get(playerId), null);
         playerStates.remove(playerId);
+        combatProfiles.remove(playerId);
         appliedPotions.remove(playerId);
         appliedHealthBonuses.remove(playerId);
+        equipmentFingerprints.remove(playerId);
     }
 
     public void clearPlayerEffects(Player player) {
-        Map<PotionEffectType, Integer> potions = appliedPotions.remove(player.getUniqueId());
-        if (potions != null) {
-            for (Map.Entry<PotionEffectType, Integer> e : potions.entrySet()) {
+        PotionOperationQueue queue = potionQueue;
+        if (queue != null) {
+            // 기록에서 이미 빠졌지만 아직 수행되지 않은 제거 작업
+            queue.flushRemovals(player, queuedPotionHandler);
+        }
+        PotionLedger ledger = appliedPotions.remove(player.getUniqueId());
+        if (ledger != null) {
+            for (long owned = ledger.getOwnedMask(); owned != 0L; owned &= owned - 1) {
+                int id = Long.numberOfTrailingZeros(owned);
                 // NATURAL 모드에서는 짧은 지속시간이므로 강제 제거
                 if (potionApplicationMode == PotionApplicationMode.NATURAL) {
-                    forceRemovePotion(player, e.getKey(), e.getValue());
+                    forceRemovePotion(player, PotionLedger.typeOf(id), ledger.getAmplifier(id));
                 } else {
-                    conditionalRemovePotion(player, e.getKey(), e.getValue());
+                    conditionalRemovePotion(player, PotionLedger.typeOf(id), ledger.getAmplifier(id));
                 }
             }
         }
         clearHealthModifier(player);
+        cancelPotionRefresh(player.getUniqueId());
+        pendingSequences.remove(player.getUniqueId());
+        updateWearerIndex(player.getUniqueId(), playerStates.get(player.getUniqueId()), null);
         playerStates.remove(player.getUniqueId());
+        combatProfiles.remove(player.getUniqueId());
+        equipmentFingerprints.remove(player.getUniqueId());
     }
 
     public void clearAll() {
         playerStates.clear();
+        combatProfiles.clear();
+        setWearers.clear();
+        pendingSequences.clear();
         appliedPotions.clear();
         appliedHealthBonuses.clear();
+        equipmentFingerprints.clear();
+        matchCache.clear();
+        PotionOperationQueue queue = potionQueue;
+        if (queue != null) {
+            queue.clear();
+        }
+    }
+
+    /**
+     * 인벤토리 조작이 세트 효과를 바꿀 수 있는지 확인 (재계산 요청 사전 필터)
+     *
+     * 착용 중인 세트가 없고, 조작에 관련된 아이템이 모두 세트 아이템 Material도 아니고 등록된 세트 태그도 없으면
+     * 재계산해도 결과가 같으므로 false를 반환합니다. 상태를 모르거나 계산 중이면 항상 true입니다.
+     *
+     * @param playerId 플레이어 UUID
+     * @param cursor 커서 아이템 (null 허용)
+     * @param current 클릭한 슬롯의 아이템 (null 허용)
+     * @param hotbar 숫자 키로 교환되는 핫바 아이템 (null 허용)
+     * @return 재계산이 필요할 수 있으면 true
+     */
+    public boolean canAffectSets(UUID playerId, ItemStack cursor, ItemStack current, ItemStack hotbar) {
+        PlayerSetState state = playerStates.get(playerId);
+        if (state == null || state.getActiveSetCount() > 0 || pendingSequences.containsKey(playerId)) {
+            return true;
+        }
+
+        SetItemIndex itemIndex = setEffectService.getCatalog().getItemIndex();
+        if (itemIndex.mayMatch(cursor) || itemIndex.mayMatch(current) || itemIndex.mayMatch(hotbar)) {
+            return true;
+        }
+
+        prefilteredClickCount.increment();
+        return false;
     }
 
     public int getTrackedPlayerCount() {
@@ -465,7 +1192,66 @@ public class PlayerEffectService {
         long nanos = recalculationNanos.sum();
         long potions = potionApplyCount.sum();
         double avgMs = count == 0 ? 0.0 : (nanos / 1_000_000.0) / count;
-        return String.format("recalculations=%d avgRecalcMs=%.3f potionApplies=%d trackedPlayers=%d",
-                count, avgMs, potions, getTrackedPlayerCount());
+        SetMatchCache cache = matchCache;
+        return String.format("recalculations=%d incrementalRecalculations=%d avgRecalcMs=%.3f potionApplies=%d " +
+                        "trackedPlayers=%d fingerprintHits=%d fingerprintMisses=%d unchangedStates=%d " +
+                        "pendingComputes=%d staleResults=%d prefilteredClicks=%d unmarkedSlotChanges=%d combatProfiles=%d " +
+                        "potionRefreshes=%d potionRefreshFallbacks=%d " +
+                        "matchCacheHitRate=%.3f matchCacheSize=%d matchCacheEvictions=%d",
+                count, incrementalRecalculationCount.sum(), avgMs, potions,
+                getTrackedPlayerCount(), fingerprintHits.sum(), fingerprintMisses.sum(),
+                unchangedStateCount.sum(), pendingSequences.size(), staleResultCount.sum(),
+                prefilteredClickCount.sum(), unmarkedSlotChangeCount.sum(), combatProfiles.size(),
+                potionRefreshCount.sum(), potionRefreshFallbackCount.sum(),
+                cache.getHitRate(), cache.size(), cache.getEvictions());
+    }
+
+    /**
+     * 재계산 작업 버퍼
+     *
+     * 스레드마다 하나씩 두고 재사용하며, 재계산 결과로 게시되는 객체(상태, 지문)만 새로 만듭니다.
+     */
+    private static final class RecalculationScratch {
+        private final Material[] materials = new Material[EquipmentSlot.getTotalSlots()];
+        private final String[] displayNames = new String[EquipmentSlot.getTotalSlots()];
+        private final String[] tags = new String[EquipmentSlot.getTotalSlots()];
+        private SetEffect[] sets = new SetEffect[8];
+        private int[] pieces = new int[8];
+        private int setCount;
+        private int[] potionIds = new int[8];
+        private final PlayerSetState.Builder builder = PlayerSetState.builder(new UUID(0L, 0L));
+
+        private void clearPieces() {
+            Arrays.fill(sets, 0, setCount, null);
+            setCount = 0;
+        }
+
+        private void addPieces(List<SetEffect> owners, int delta) {
+            for (int i = 0; i < owners.size(); i++) {
+                addPieces(owners.get(i), delta);
+            }
+        }
+
+        private void addPieces(SetEffect setEffect, int delta) {
+            for (int i = 0; i < setCount; i++) {
+                if (sets[i] == setEffect) {
+                    pieces[i] += delta;
+                    return;
+                }
+            }
+            if (setCount == sets.length) {
+                sets = Arrays.copyOf(sets, setCount * 2);
+                pieces = Arrays.copyOf(pieces, setCount * 2);
+            }
+            sets[setCount] = setEffect;
+            pieces[setCount] = delta;
+            setCount++;
+        }
+
+        private void ensurePotionCapacity(int size) {
+            if (potionIds.length < size) {
+                potionIds = new int[size];
+            }
+        }
     }
 }
@@ -0,0 +1,95 @@
+package kr.minex.pvpseteffect.application.service;
+
+import org.bukkit.potion.PotionEffectType;
+import kr.minex.pvpseteffect.domain.vo.PotionType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 플레이어별로 플러그인이 적용한 포션 기록
+ *
+ * 포션 타입마다 고정된 번호(0 ~ 63)를 붙여, 보유 여부는 비트마스크로, 레벨은 번호로 색인한 바이트 배열로 보관합니다.
+ * 번호는 {@link PotionType}의 순서를 그대로 쓰고, PotionType에 없는 타입(API로 직접 만든 보너스)은 그 뒤 번호를 처음 볼 때 부여합니다.
+ * 이전/현재 포션의 차이는 마스크 비트 연산으로 구하며, 동기화마다 새 컬렉션을 만들지 않고 같은 기록을 고쳐 씁니다.
+ *
+ * 번호 부여는 스레드 안전하지만, 기록 자체의 읽기/쓰기는 메인 스레드에서만 수행합니다.
+ */
+final class PotionLedger {
+
+    /**
+     * 부여 가능한 번호 수 (마스크 비트 수)
+     */
+    static final int MAX_TYPES = Long.SIZE;
+
+    private static final PotionType[] POTION_TYPES = PotionType.values();
+    private static final Map<PotionEffectType, Integer> EXTRA_IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_EXTRA_ID = new AtomicInteger(POTION_TYPES.length);
+    private static final AtomicReferenceArray<PotionEffectType> TYPES_BY_ID = new AtomicReferenceArray<>(MAX_TYPES);
+
+    private long ownedMask;
+    private final byte[] amplifiers = new byte[MAX_TYPES];
+
+    /**
+     * 포션 타입의 번호 조회 (처음 보는 타입이면 부여)
+     *
+     * @return 번호, 번호가 모두 소진되었으면 -1
+     */
+    static int idOf(PotionEffectType type) {
+        PotionType potionType = PotionType.fromBukkitType(type);
+        int id = potionType != null
+                ? potionType.ordinal()
+                : EXTRA_IDS.computeIfAbsent(type, key -> NEXT_EXTRA_ID.getAndIncrement());
+        if (id >= MAX_TYPES) {
+            return -1;
+        }
+        if (TYPES_BY_ID.get(id) == null) {
+            TYPES_BY_ID.compareAndSet(id, null, type);
+        }
+        return id;
+    }
+
+    /**
+     * 번호에 해당하는 포션 타입 ({@link #idOf}로 부여된 번호만 유효)
+     */
+    static PotionEffectType typeOf(int id) {
+        return TYPES_BY_ID.get(id);
+    }
+
+    static long bit(int id) {
+        return 1L << id;
+    }
+
+    long getOwnedMask() {
+        return ownedMask;
+    }
+
+    /**
+     * 보유 마스크 교체 (새 마스크의 레벨은 {@link #setAmplifier}로 먼저 기록되어 있어야 함)
+     */
+    void setOwnedMask(long ownedMask) {
+        this.ownedMask = ownedMask;
+    }
+
+    boolean owns(int id) {
+        return id >= 0 && (ownedMask & bit(id)) != 0;
+    }
+
+    /**
+     * 적용한 레벨 (0부터 시작, 보유하지 않은 번호면 -1)
+     */
+    int getAmplifier(int id) {
+        return owns(id) ? amplifiers[id] & 0xFF : -1;
+    }
+
+    /**
+     * 레벨 기록 (보유 마스크는 바꾸지 않음)
+     *
+     * @param amplifier 0 ~ 255
+     */
+    void setAmplifier(int id, int amplifier) {
+        amplifiers[id] = (byte) amplifier;
+    }
+}
@@ -0,0 +1,231 @@
+package kr.minex.pvpseteffect.application.service;
+
+import org.bukkit.entity.Player;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 틱 단위로 나눠 처리하는 포션 적용/제거 작업 큐
+ *
+ * 접속이 몰리거나 세트를 일괄 수정하면 한 틱에 수백 번의 포션 적용이 몰리므로,
+ * 재계산은 작업을 여기에 쌓기만 하고 매 틱 정해진 시간 예산 안에서만 처리합니다.
+ * 같은 플레이어/포션 타입의 작업은 마지막 작업 하나로 합쳐지며, 플레이어는 처음 작업이 쌓인 순서대로 처리됩니다.
+ *
+ * 포션 타입은 {@link PotionLedger}의 번호로 구분합니다. 모든 메서드는 메인 스레드에서만 호출됩니다.
+ */
+public final class PotionOperationQueue {
+
+    /**
+     * 큐에서 꺼낸 작업을 실제로 수행하는 쪽
+     */
+    interface Handler {
+        void apply(Player player, int potionId, int amplifier);
+
+        void remove(Player player, int potionId, int amplifier);
+    }
+
+    private final LongSupplier clock;
+    private final LinkedHashMap<UUID, PlayerOperations> pending = new LinkedHashMap<>();
+
+    private long enqueuedOperations;
+    private long collapsedOperations;
+    private long drainedOperations;
+    private long drainedPlayers;
+    private long latencyNanos;
+    private long maxLatencyNanos;
+    private long budgetExhaustedTicks;
+    private int maxBacklog;
+
+    public PotionOperationQueue() {
+        this(System::nanoTime);
+    }
+
+    PotionOperationQueue(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 포션 적용 예약 (같은 타입의 이전 작업은 대체)
+     */
+    void enqueueApply(Player player, int potionId, int amplifier) {
+        PlayerOperations operations = operationsFor(player, potionId);
+        long bit = PotionLedger.bit(potionId);
+        operations.removeMask &= ~bit;
+        operations.applyMask |= bit;
+        operations.amplifiers[potionId] = (byte) amplifier;
+    }
+
+    /**
+     * 포션 제거 예약 (같은 타입의 이전 작업은 대체)
+     */
+    void enqueueRemove(Player player, int potionId, int amplifier) {
+        PlayerOperations operations = operationsFor(player, potionId);
+        long bit = PotionLedger.bit(potionId);
+        operations.applyMask &= ~bit;
+        operations.removeMask |= bit;
+        operations.amplifiers[potionId] = (byte) amplifier;
+    }
+
+    private PlayerOperations operationsFor(Player player, int potionId) {
+        PlayerOperations operations = pending.get(player.getUniqueId());
+        if (operations == null) {
+            operations = new PlayerOperations(player, clock.getAsLong());
+            pending.put(player.getUniqueId(), operations);
+            maxBacklog = Math.max(maxBacklog, pending.size());
+        } else {
+            // 재접속 시 새 Player 객체로 처리
+            operations.player = player;
+        }
+
+        enqueuedOperations++;
+        if (((operations.applyMask | operations.removeMask) & PotionLedger.bit(potionId)) != 0L) {
+            collapsedOperations++;
+        }
+        return operations;
+    }
+
+    /**
+     * 플레이어의 대기 중인 작업 취소 (플레이어 상태 제거 시)
+     */
+    void cancel(UUID playerId) {
+        pending.remove(playerId);
+    }
+
+    /**
+     * 플레이어의 대기 중인 제거 작업만 즉시 수행하고 나머지는 버림 (효과 정리 시, 제거가 누락되지 않도록)
+     */
+    void flushRemovals(Player player, Handler handler) {
+        PlayerOperations operations = pending.remove(player.getUniqueId());
+        if (operations == null) {
+            return;
+        }
+        for (long bits = operations.removeMask; bits != 0L; bits &= bits - 1) {
+            int id = Long.numberOfTrailingZeros(bits);
+            handler.remove(player, id, operations.amplifiers[id] & 0xFF);
+            drainedOperations++;
+        }
+    }
+
+    void clear() {
+        pending.clear();
+    }
+
+    /**
+     * 시간 예산 안에서 대기 중인 작업 처리
+     *
+     * 플레이어 단위로 처리하며, 예산이 부족해도 매 틱 최소 한 플레이어는 처리합니다.
+     * 오프라인 플레이어의 작업은 버립니다.
+     *
+     * @param budgetNanos 이번 틱 처리 예산 (나노초)
+     * @param handler 작업 수행자
+     * @return 처리한 작업 수
+     */
+    int drain(long budgetNanos, Handler handler) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        long start = clock.getAsLong();
+        int drained = 0;
+        Iterator<PlayerOperations> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            PlayerOperations operations = iterator.next();
+            iterator.remove();
+
+            long now = clock.getAsLong();
+            long latency = now - operations.enqueuedAt;
+            latencyNanos += latency;
+            maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+            drainedPlayers++;
+
+            Player player = operations.player;
+            if (player.isOnline()) {
+                for (long bits = operations.removeMask; bits != 0L; bits &= bits - 1) {
+                    int id = Long.numberOfTrailingZeros(bits);
+                    handler.remove(player, id, operations.amplifiers[id] & 0xFF);
+                    drained++;
+                }
+                for (long bits = operations.applyMask; bits != 0L; bits &= bits - 1) {
+                    int id = Long.numberOfTrailingZeros(bits);
+                    handler.apply(player, id, operations.amplifiers[id] & 0xFF);
+                    drained++;
+                }
+            }
+
+            if (iterator.hasNext() && clock.getAsLong() - start >= budgetNanos) {
+                budgetExhaustedTicks++;
+                break;
+            }
+        }
+        drainedOperations += drained;
+        return drained;
+    }
+
+    /**
+     * 작업이 대기 중인 플레이어 수
+     */
+    public int getBacklog() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 작업 수
+     */
+    public int getPendingOperations() {
+        int count = 0;
+        for (PlayerOperations operations : pending.values()) {
+            count += Long.bitCount(operations.applyMask | operations.removeMask);
+        }
+        return count;
+    }
+
+    public long getDrainedOperations() {
+        return drainedOperations;
+    }
+
+    public long getCollapsedOperations() {
+        return collapsedOperations;
+    }
+
+    public long getBudgetExhaustedTicks() {
+        return budgetExhaustedTicks;
+    }
+
+    /**
+     * 작업이 쌓인 뒤 처리되기까지의 평균 지연 (밀리초, 처리한 적이 없으면 0)
+     */
+    public double getAverageLatencyMillis() {
+        return drainedPlayers == 0 ? 0.0 : (latencyNanos / 1_000_000.0) / drainedPlayers;
+    }
+
+    /**
+     * 큐 메트릭 (최대값은 조회 후 초기화)
+     */
+    public String getMetricsSnapshot() {
+        String snapshot = String.format("potionQueueBacklog=%d potionQueuePending=%d potionQueueMaxBacklog=%d " +
+                        "potionQueueEnqueued=%d potionQueueCollapsed=%d potionQueueDrained=%d " +
+                        "potionQueueAvgLatencyMs=%.3f potionQueueMaxLatencyMs=%.3f potionQueueBudgetExhausted=%d",
+                getBacklog(), getPendingOperations(), maxBacklog,
+                enqueuedOperations, collapsedOperations, drainedOperations,
+                getAverageLatencyMillis(), maxLatencyNanos / 1_000_000.0, budgetExhaustedTicks);
+        maxBacklog = pending.size();
+        maxLatencyNanos = 0;
+        return snapshot;
+    }
+
+    private static final class PlayerOperations {
+        private Player player;
+        private final long enqueuedAt;
+        private long applyMask;
+        private long removeMask;
+        private final byte[] amplifiers = new byte[PotionLedger.MAX_TYPES];
+
+        private PlayerOperations(Player player, long enqueuedAt) {
+            this.player = player;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package kr.minex.pvpseteffect.application.service;
+
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * NATURAL 모드 포션 갱신 예약 리스너
+ *
+ * {@link PlayerEffectService}가 포션을 동기화한 뒤, 적용한 효과 중 가장 먼저 갱신이 필요해지는 시점을 알립니다.
+ * 계산 실패 시의 재예약({@link #onRefreshScheduled})만 계산 스레드에서 호출될 수 있으며, 나머지 호출은 메인 스레드에서 이루어집니다.
+ */
+public interface PotionRefreshListener {
+
+    /**
+     * 포션 갱신 예약 (기존 예약은 대체)
+     *
+     * @param player 대상 플레이어
+     * @param delayTicks 다음 {@link PlayerEffectService#refreshPotions(Player)} 호출까지의 틱 (1 이상)
+     */
+    void onRefreshScheduled(Player player, int delayTicks);
+
+    /**
+     * 포션 갱신 예약 취소 (세트 포션이 없거나 추적이 끝난 경우)
+     *
+     * @param playerId 플레이어 UUID
+     */
+    void onRefreshCancelled(UUID playerId);
+}
@@ -0,0 +1,111 @@
+package kr.minex.pvpseteffect.application.service;
+
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+
+import java.util.*;
+
+/**
+ * 세트 카탈로그 스냅샷
+ *
+ * 특정 시점의 세트 목록, ID 색인, 장비 역색인을 한 번에 묶은 불변 객체입니다.
+ * 세트는 만들 때 {@link SetEffect#snapshot()}으로 아이템과 컴파일된 보너스 테이블까지 고정한 복사본을 담으므로,
+ * 관리자가 원본을 수정해도 다음 스냅샷이 게시되기 전까지 이 스냅샷으로 계산 중인 작업에는 보이지 않습니다.
+ * {@link SetEffectService}가 세트를 변경할 때마다 새 스냅샷을 만들어 volatile 참조 하나로 교체하므로,
+ * 읽는 쪽(재계산, 전투, API)은 잠금 없이 일관된 목록을 볼 수 있습니다.
+ *
+ * 세대 번호(generation)는 스냅샷이 바뀔 때마다 단조 증가하며, 캐시 무효화 판단에 사용합니다.
+ */
+public final class SetCatalog {
+
+    private static final SetCatalog EMPTY = new SetCatalog(0L, List.of(), Map.of(), Map.of(), SetItemIndex.empty());
+
+    private final long generation;
+    private final List<SetEffect> setEffects;
+    private final Map<String, SetEffect> byId;
+    private final Map<String, SetEffect> byName;
+    private final SetItemIndex itemIndex;
+
+    private SetCatalog(long generation, List<SetEffect> setEffects, Map<String, SetEffect> byId,
+                       Map<String, SetEffect> byName, SetItemIndex itemIndex) {
+        this.generation = generation;
+        this.setEffects = setEffects;
+        this.byId = byId;
+        this.byName = byName;
+        this.itemIndex = itemIndex;
+    }
+
+    public static SetCatalog empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 세트 목록으로부터 스냅샷 생성
+     *
+     * @param generation 세대 번호
+     * @param source 현재 세트 목록
+     * @return 새 스냅샷
+     */
+    public static SetCatalog build(long generation, Collection<SetEffect> source) {
+        List<SetEffect> snapshots = new ArrayList<>(source == null ? 0 : source.size());
+        Map<String, SetEffect> byId = new HashMap<>();
+        Map<String, SetEffect> byName = new HashMap<>();
+        if (source != null) {
+            for (SetEffect setEffect : source) {
+                SetEffect snapshot = setEffect.snapshot();
+                snapshots.add(snapshot);
+                byId.put(snapshot.getId(), snapshot);
+                byName.put(snapshot.getName(), snapshot);
+            }
+        }
+
+        List<SetEffect> setEffects = Collections.unmodifiableList(snapshots);
+        return new SetCatalog(generation, setEffects, Collections.unmodifiableMap(byId),
+                Collections.unmodifiableMap(byName), SetItemIndex.build(setEffects));
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 스냅샷 시점의 세트 목록 (수정 불가)
+     */
+    public List<SetEffect> getSetEffects() {
+        return setEffects;
+    }
+
+    /**
+     * ID로 세트 조회
+     *
+     * @return 세트, 없으면 null
+     */
+    public SetEffect findById(String id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    /**
+     * 이름으로 세트 조회
+     *
+     * @return 세트, 없으면 null
+     */
+    public SetEffect findByName(String name) {
+        return name == null ? null : byName.get(name);
+    }
+
+    public SetItemIndex getItemIndex() {
+        return itemIndex;
+    }
+
+    public int size() {
+        return setEffects.size();
+    }
+
+    public boolean isEmpty() {
+        return setEffects.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SetCatalog{generation=%d, sets=%d}", generation, setEffects.size());
+    }
+}
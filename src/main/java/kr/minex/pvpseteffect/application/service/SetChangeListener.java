@@ -0,0 +1,18 @@
+package kr.minex.pvpseteffect.application.service;
+
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+
+/**
+ * 세트 변경 알림 리스너
+ *
+ * {@link SetEffectService}가 세트를 변경한 뒤(새 카탈로그 게시 후) 호출합니다.
+ */
+@FunctionalInterface
+public interface SetChangeListener {
+
+    /**
+     * @param setId 변경된 세트 ID
+     * @param changedSlot 아이템이 바뀐 슬롯, 보너스 변경/삭제처럼 아이템 구성과 무관하면 null
+     */
+    void onSetChanged(String setId, EquipmentSlot changedSlot);
+}
@@ -6,17 +6,29 @@ import kr.minex.pvpseteffect.domain.vo.*;
 import org.bukkit.potion.PotionEffectType;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
 
 /**
  * 세트 효과 관리 서비스
  */
 public class SetEffectService {
 
+    private static final Logger LOGGER = Logger.getLogger(SetEffectService.class.getName());
+
     private final SetEffectRepository repository;
+    private final List<SetChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 세트 카탈로그 스냅샷 (변경 시마다 copy-on-write로 교체)
+     */
+    private volatile SetCatalog catalog = SetCatalog.empty();
 
     public SetEffectService(SetEffectRepository repository) {
         this.repository = repository;
+        publishCatalog();
     }
 
     public SetEffect createSetEffect(String name) {
@@ -26,7 +38,8 @@ public class SetEffectService {
 
         SetEffect setEffect = new SetEffect(name);
         repository.save(setEffect);
-        return setEffect;
+        publishCatalog();
+        return setEffect.snapshot();
     }
 
     public boolean deleteSetEffect(String name) {
@@ -36,19 +49,32 @@ public class SetEffectService {
         }
 
         repository.deleteByName(name);
+        publishCatalog();
+        fireSetChanged(existing.get().getId(), null);
         return true;
     }
 
+    /**
+     * 이름으로 세트 조회 (현재 카탈로그 스냅샷의 수정 불가 복사본)
+     *
+     * 세트 변경은 {@link #setItem}, {@link #setAbilityBonus} 등 이 서비스의 메서드로만 해야 합니다.
+     */
     public Optional<SetEffect> getSetEffect(String name) {
-        return repository.findByName(name);
+        return Optional.ofNullable(catalog.findByName(name));
     }
 
+    /**
+     * ID로 세트 조회 (현재 카탈로그 스냅샷의 수정 불가 복사본)
+     */
     public Optional<SetEffect> getSetEffectById(String id) {
-        return repository.findById(id);
+        return Optional.ofNullable(catalog.findById(id));
     }
 
+    /**
+     * 모든 세트 조회 (현재 카탈로그 스냅샷, 수정 불가)
+     */
     public Collection<SetEffect> getAllSetEffects() {
-        return repository.findAll();
+        return catalog.getSetEffects();
     }
 
     public boolean exists(String name) {
@@ -61,6 +87,8 @@ public class SetEffectService {
 
         setEffect.setItem(slot, item);
         repository.save(setEffect);
+        publishCatalog();
+        fireSetChanged(setEffect.getId(), slot);
     }
 
     public void setAbilityBonus(String setName, int pieces, AbilityType abilityType, int value) {
@@ -71,6 +99,8 @@ public class SetEffectService {
         SetBonus bonus = SetBonus.createAbilityBonus(pieces, abilityType, value);
         setEffect.setBonus(pieces, bonus);
         repository.save(setEffect);
+        publishCatalog();
+        fireSetChanged(setEffect.getId(), null);
     }
 
     public void setPotionBonus(String setName, int pieces, PotionEffectType potionType, int level) {
@@ -81,6 +111,8 @@ public class SetEffectService {
         SetBonus bonus = SetBonus.createPotionBonus(pieces, potionType, level);
         setEffect.setBonus(pieces, bonus);
         repository.save(setEffect);
+        publishCatalog();
+        fireSetChanged(setEffect.getId(), null);
     }
 
     public void removeBonus(String setName, int pieces) {
@@ -90,6 +122,8 @@ public class SetEffectService {
         validatePieces(pieces);
         setEffect.removeBonus(pieces);
         repository.save(setEffect);
+        publishCatalog();
+        fireSetChanged(setEffect.getId(), null);
     }
 
     public void saveAll() {
@@ -98,6 +132,39 @@ public class SetEffectService {
 
     public void loadAll() {
         repository.loadAll();
+        publishCatalog();
+    }
+
+    /**
+     * 현재 세트 카탈로그 스냅샷 반환
+     *
+     * 한 번 읽은 스냅샷은 이후 변경과 무관하게 일관되므로, 한 작업 안에서는 같은 스냅샷을 계속 사용해야 합니다.
+     */
+    public SetCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * 세트 변경 리스너 등록
+     */
+    public void addChangeListener(SetChangeListener listener) {
+        if (listener != null) {
+            changeListeners.add(listener);
+        }
+    }
+
+    private void fireSetChanged(String setId, EquipmentSlot changedSlot) {
+        for (SetChangeListener listener : changeListeners) {
+            try {
+                listener.onSetChanged(setId, changedSlot);
+            } catch (Exception e) {
+                LOGGER.warning(() -> String.format("세트 %s 변경 알림 처리 중 오류: %s", setId, e.getMessage()));
+            }
+        }
+    }
+
+    private synchronized void publishCatalog() {
+        this.catalog = SetCatalog.build(catalog.getGeneration() + 1, repository.findAll());
     }
 
     private void validatePieces(int pieces) {
@@ -0,0 +1,290 @@
+package kr.minex.pvpseteffect.application.service;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.ItemKey;
+import kr.minex.pvpseteffect.domain.vo.ItemMatchMode;
+import kr.minex.pvpseteffect.domain.vo.SetItem;
+import kr.minex.pvpseteffect.domain.vo.SetItemTag;
+
+import java.util.*;
+
+/**
+ * 장비 아이템 → 세트 역색인
+ *
+ * (슬롯, Material, 표시 이름) 또는 (슬롯, 세트 태그) 키로 착용 아이템이 속한 세트 목록을 O(1)에 조회합니다.
+ * 재계산 비용이 전체 세트 수가 아닌 "실제로 착용 중인 세트 수"에 비례하도록 합니다.
+ *
+ * 불변 객체이며, 세트 구성이 바뀌면 {@link SetEffectService}가 새 인덱스를 만들어 교체합니다.
+ */
+public final class SetItemIndex {
+
+    private static final int MATERIAL_WORDS = (Material.values().length + 63) >>> 6;
+
+    private static final SetItemIndex EMPTY = new SetItemIndex(
+            new EnumMap<>(EquipmentSlot.class), new EnumMap<>(EquipmentSlot.class), Set.of(), new long[MATERIAL_WORDS]);
+
+    private final Map<EquipmentSlot, Map<Material, Bucket>> slots;
+    private final Map<EquipmentSlot, Map<String, List<SetEffect>>> tagged;
+
+    /**
+     * 모든 슬롯의 세트 태그 값 (태그 값에 슬롯이 포함되므로 슬롯 구분 없이 확인 가능)
+     */
+    private final Set<String> tagValues;
+
+    /**
+     * 세트 아이템에 쓰인 Material 비트맵 (Material.ordinal() 인덱스)
+     */
+    private final long[] materialBits;
+
+    private SetItemIndex(Map<EquipmentSlot, Map<Material, Bucket>> slots,
+                         Map<EquipmentSlot, Map<String, List<SetEffect>>> tagged,
+                         Set<String> tagValues, long[] materialBits) {
+        this.slots = slots;
+        this.tagged = tagged;
+        this.tagValues = tagValues;
+        this.materialBits = materialBits;
+    }
+
+    public static SetItemIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 세트 목록으로부터 인덱스 생성
+     *
+     * @param setEffects 색인할 세트 목록
+     * @return 새 인덱스
+     */
+    public static SetItemIndex build(Collection<SetEffect> setEffects) {
+        if (setEffects == null || setEffects.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<EquipmentSlot, Map<Material, BucketBuilder>> builders = new EnumMap<>(EquipmentSlot.class);
+        Map<EquipmentSlot, Map<String, List<SetEffect>>> taggedBuilders = new EnumMap<>(EquipmentSlot.class);
+        long[] materialBits = new long[MATERIAL_WORDS];
+
+        for (SetEffect setEffect : setEffects) {
+            for (EquipmentSlot slot : EquipmentSlot.values()) {
+                SetItem setItem = setEffect.getItem(slot);
+                if (setItem == null || setItem.isEmpty()) {
+                    continue;
+                }
+
+                int ordinal = setItem.getMaterial().ordinal();
+                materialBits[ordinal >>> 6] |= 1L << ordinal;
+
+                // 태그 기준 아이템은 Material/이름과 무관하게 태그로만 색인
+                if (setItem.getMatchMode() == ItemMatchMode.TAG) {
+                    taggedBuilders
+                            .computeIfAbsent(slot, s -> new HashMap<>())
+                            .computeIfAbsent(setItem.getTag(), t -> new ArrayList<>())
+                            .add(setEffect);
+                    continue;
+                }
+
+                BucketBuilder bucket = builders
+                        .computeIfAbsent(slot, s -> new EnumMap<>(Material.class))
+                        .computeIfAbsent(setItem.getMaterial(), m -> new BucketBuilder());
+
+                if (setItem.hasCustomName()) {
+                    bucket.named.computeIfAbsent(setItem.getItemName(), n -> new ArrayList<>()).add(setEffect);
+                } else {
+                    bucket.unnamed.add(setEffect);
+                }
+            }
+        }
+
+        Map<EquipmentSlot, Map<Material, Bucket>> slots = new EnumMap<>(EquipmentSlot.class);
+        for (Map.Entry<EquipmentSlot, Map<Material, BucketBuilder>> slotEntry : builders.entrySet()) {
+            Map<Material, Bucket> materials = new EnumMap<>(Material.class);
+            for (Map.Entry<Material, BucketBuilder> materialEntry : slotEntry.getValue().entrySet()) {
+                materials.put(materialEntry.getKey(), materialEntry.getValue().build());
+            }
+            slots.put(slotEntry.getKey(), materials);
+        }
+
+        Map<EquipmentSlot, Map<String, List<SetEffect>>> tagged = new EnumMap<>(EquipmentSlot.class);
+        Set<String> tagValues = new HashSet<>();
+        for (Map.Entry<EquipmentSlot, Map<String, List<SetEffect>>> slotEntry : taggedBuilders.entrySet()) {
+            Map<String, List<SetEffect>> tags = new HashMap<>();
+            for (Map.Entry<String, List<SetEffect>> tagEntry : slotEntry.getValue().entrySet()) {
+                tags.put(tagEntry.getKey(), List.copyOf(tagEntry.getValue()));
+                tagValues.add(tagEntry.getKey());
+            }
+            tagged.put(slotEntry.getKey(), Collections.unmodifiableMap(tags));
+        }
+
+        return new SetItemIndex(slots, tagged, Collections.unmodifiableSet(tagValues), materialBits);
+    }
+
+    /**
+     * 해당 슬롯에 착용한 아이템이 속한 세트 목록 조회
+     *
+     * {@link SetItem#matches(ItemStack)}와 동일한 규칙을 따르며,
+     * 슬롯에 태그 기준 아이템이 없고 어떤 세트에도 쓰이지 않는 Material이면 ItemMeta를 읽지 않고 바로 반환합니다.
+     *
+     * @param slot 장비 슬롯
+     * @param item 착용 아이템 (null 허용)
+     * @return 아이템이 속한 세트 목록 (수정 불가, 없으면 빈 목록)
+     */
+    public List<SetEffect> lookup(EquipmentSlot slot, ItemStack item) {
+        if (slot == null || item == null || item.getType() == Material.AIR) {
+            return Collections.emptyList();
+        }
+
+        // 어떤 세트에도 쓰이지 않는 Material이면 ItemMeta를 읽지 않음
+        if (bucket(slot, item.getType()) == null && !tagged.containsKey(slot)) {
+            return Collections.emptyList();
+        }
+        return lookup(slot, ItemKey.of(item));
+    }
+
+    /**
+     * 매칭 키로 세트 목록 조회
+     *
+     * @param slot 장비 슬롯
+     * @param key 착용 아이템 매칭 키
+     * @return 아이템이 속한 세트 목록 (수정 불가, 없으면 빈 목록)
+     */
+    public List<SetEffect> lookup(EquipmentSlot slot, ItemKey key) {
+        if (key == null) {
+            return Collections.emptyList();
+        }
+
+        List<SetEffect> byName = lookup(slot, key.getMaterial(), key.getDisplayName());
+        List<SetEffect> byTag = lookupTag(slot, key.getTag());
+        if (byTag.isEmpty()) {
+            return byName;
+        }
+        if (byName.isEmpty()) {
+            return byTag;
+        }
+
+        List<SetEffect> merged = new ArrayList<>(byName.size() + byTag.size());
+        merged.addAll(byName);
+        merged.addAll(byTag);
+        return Collections.unmodifiableList(merged);
+    }
+
+    /**
+     * 이미 추출한 아이템 정보로 세트 목록 조회
+     *
+     * @param slot 장비 슬롯
+     * @param material 착용 아이템 Material (빈 슬롯이면 null)
+     * @param displayName 착용 아이템 표시 이름 (이름이 없으면 null)
+     * @return 아이템이 속한 세트 목록 (수정 불가, 없으면 빈 목록)
+     */
+    public List<SetEffect> lookup(EquipmentSlot slot, Material material, String displayName) {
+        if (slot == null || material == null) {
+            return Collections.emptyList();
+        }
+
+        Bucket bucket = bucket(slot, material);
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        return bucket.resolve(displayName);
+    }
+
+    /**
+     * 세트 태그로 세트 목록 조회 (태그 기준 아이템만 대상)
+     *
+     * 이름/Material 기준 결과({@link #lookup(EquipmentSlot, Material, String)})와는 별개이며,
+     * 호출자가 두 결과를 함께 반영해야 합니다.
+     *
+     * @param slot 장비 슬롯
+     * @param tag 착용 아이템의 세트 태그 (태그가 없으면 null)
+     * @return 태그가 일치하는 세트 목록 (수정 불가, 없으면 빈 목록)
+     */
+    public List<SetEffect> lookupTag(EquipmentSlot slot, String tag) {
+        if (slot == null || tag == null) {
+            return Collections.emptyList();
+        }
+
+        Map<String, List<SetEffect>> tags = tagged.get(slot);
+        if (tags == null) {
+            return Collections.emptyList();
+        }
+        return tags.getOrDefault(tag, Collections.emptyList());
+    }
+
+    /**
+     * 어떤 세트 아이템에라도 쓰인 Material인지 확인 (비트 연산 한 번, ItemMeta를 읽지 않음)
+     *
+     * @param material 확인할 Material (null 허용)
+     * @return 세트 아이템 Material이면 true
+     */
+    public boolean isSetMaterial(Material material) {
+        if (material == null) {
+            return false;
+        }
+        int ordinal = material.ordinal();
+        return (materialBits[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * 아이템이 어떤 세트에라도 속할 가능성이 있는지 빠르게 확인
+     *
+     * 세트 아이템 Material이거나, 아이템의 세트 태그가 등록된 태그 중 하나이면 true를 반환합니다.
+     * (태그는 Material과 무관하게 매칭되므로, 태그 기준 세트가 있고 메타가 있는 아이템만 메타를 읽음)
+     *
+     * @param item 확인할 아이템 (null 허용)
+     * @return 세트에 속할 수 없으면 false
+     */
+    public boolean mayMatch(ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) {
+            return false;
+        }
+        if (isSetMaterial(item.getType())) {
+            return true;
+        }
+        if (tagValues.isEmpty() || !item.hasItemMeta()) {
+            return false;
+        }
+        String tag = SetItemTag.read(item.getItemMeta());
+        return tag != null && tagValues.contains(tag);
+    }
+
+    private Bucket bucket(EquipmentSlot slot, Material material) {
+        Map<Material, Bucket> materials = slots.get(slot);
+        return materials == null ? null : materials.get(material);
+    }
+
+    public boolean isEmpty() {
+        return slots.isEmpty() && tagged.isEmpty();
+    }
+
+    private static final class Bucket {
+        private final List<SetEffect> unnamed;
+        private final Map<String, List<SetEffect>> named;
+
+        private Bucket(List<SetEffect> unnamed, Map<String, List<SetEffect>> named) {
+            this.unnamed = unnamed;
+            this.named = named;
+        }
+
+        private List<SetEffect> resolve(String displayName) {
+            if (displayName == null) {
+                return unnamed;
+            }
+            return named.getOrDefault(displayName, Collections.emptyList());
+        }
+    }
+
+    private static final class BucketBuilder {
+        private final List<SetEffect> unnamed = new ArrayList<>();
+        private final Map<String, List<SetEffect>> named = new HashMap<>();
+
+        private Bucket build() {
+            Map<String, List<SetEffect>> frozen = new HashMap<>();
+            for (Map.Entry<String, List<SetEffect>> entry : named.entrySet()) {
+                frozen.put(entry.getKey(), List.copyOf(entry.getValue()));
+            }
+            return new Bucket(List.copyOf(unnamed), Collections.unmodifiableMap(frozen));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package kr.minex.pvpseteffect.application.service;
+
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.ItemKey;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아이템 → 세트 소속 결과 LRU 캐시
+ *
+ * 키트 서버처럼 많은 플레이어가 같은 장비를 입는 경우, 아이템 매칭 키(Material + 표시 이름 + 세트 태그)별로
+ * 슬롯마다 속한 세트 목록을 한 번만 구해 재사용합니다.
+ * 세트 카탈로그 세대가 바뀌면(SetEffectService의 모든 수정) 전체를 비웁니다.
+ *
+ * 계산 스레드와 메인 스레드가 함께 사용하므로 모든 접근은 동기화됩니다.
+ */
+public final class SetMatchCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+
+    private final int maxSize;
+    private final LinkedHashMap<ItemKey, List<SetEffect>[]> entries;
+    private long generation = -1L;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize 최대 항목 수 (0이면 캐시하지 않고 매번 색인을 조회)
+     */
+    public SetMatchCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("캐시 크기는 0 이상이어야 합니다: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ItemKey, List<SetEffect>[]> eldest) {
+                if (size() > SetMatchCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 착용 아이템이 해당 슬롯에서 속한 세트 목록 조회
+     *
+     * {@link SetItemIndex#lookup(EquipmentSlot, ItemKey)}와 같은 결과(이름/Material 기준 + 태그 기준)를 반환합니다.
+     *
+     * @param catalog 계산에 사용 중인 카탈로그 스냅샷
+     * @param slot 장비 슬롯
+     * @param key 착용 아이템 매칭 키
+     * @return 아이템이 속한 세트 목록 (수정 불가, 없으면 빈 목록)
+     */
+    public List<SetEffect> lookup(SetCatalog catalog, EquipmentSlot slot, ItemKey key) {
+        if (key == null || key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        SetItemIndex itemIndex = catalog.getItemIndex();
+        if (maxSize == 0) {
+            return itemIndex.lookup(slot, key);
+        }
+
+        synchronized (this) {
+            long catalogGeneration = catalog.getGeneration();
+            if (catalogGeneration != generation) {
+                // 이전 카탈로그로 계산 중인 요청은 캐시를 건드리지 않음 (곧 버려질 결과)
+                if (catalogGeneration < generation) {
+                    return itemIndex.lookup(slot, key);
+                }
+                entries.clear();
+                generation = catalogGeneration;
+            }
+
+            List<SetEffect>[] memberships = entries.get(key);
+            if (memberships != null) {
+                hits.increment();
+                return memberships[slot.getIndex()];
+            }
+
+            misses.increment();
+            memberships = resolve(itemIndex, key);
+            entries.put(key, memberships);
+            return memberships[slot.getIndex()];
+        }
+    }
+
+    /**
+     * 모든 슬롯에 대해 아이템이 속한 세트 목록 계산
+     */
+    @SuppressWarnings("unchecked")
+    private static List<SetEffect>[] resolve(SetItemIndex itemIndex, ItemKey key) {
+        List<SetEffect>[] memberships = new List[SLOTS.length];
+        for (EquipmentSlot slot : SLOTS) {
+            memberships[slot.getIndex()] = itemIndex.lookup(slot, key);
+        }
+        return memberships;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        generation = -1L;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,218 @@
+package kr.minex.pvpseteffect.application.service;
+
+import org.bukkit.entity.Player;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * (공격자, 피해자) → 같은 팀 여부 캐시
+ *
+ * 외부 팀 플러그인의 팀 체크 함수는 DB 조회나 목록 탐색을 하는 경우가 많아 흡혈 판정마다 호출하기엔 무겁습니다.
+ * 결과를 최대 항목 수와 만료 시간이 있는 LRU로 보관하며, 팀 구성이 바뀌면 팀 플러그인이
+ * {@code SetEffectAPI}를 통해 플레이어/쌍/전체 단위로 무효화합니다.
+ *
+ * 팀 플러그인이 비동기 스레드에서 무효화할 수 있으므로 모든 접근은 동기화되며,
+ * 팀 체크 함수 호출은 락 밖에서 수행합니다.
+ */
+public final class TeamCheckCache {
+
+    private static final Logger LOGGER = Logger.getLogger(TeamCheckCache.class.getName());
+
+    public static final int DEFAULT_MAX_SIZE = 2048;
+    public static final int DEFAULT_TTL_SECONDS = 30;
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<PairKey, Entry> entries;
+
+    /**
+     * 무효화 횟수 (팀 체크 함수 호출 중 무효화되면 그 결과를 캐시하지 않기 위함)
+     */
+    private long invalidations;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder checkerCalls = new LongAdder();
+    private final LongAdder checkerNanos = new LongAdder();
+    private final LongAdder checkerErrors = new LongAdder();
+
+    /**
+     * @param maxSize 최대 항목 수 (0이면 캐시하지 않고 매번 팀 체크 함수를 호출)
+     * @param ttlMillis 결과 유지 시간 (밀리초)
+     */
+    public TeamCheckCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, System::nanoTime);
+    }
+
+    TeamCheckCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("캐시 크기는 0 이상이어야 합니다: " + maxSize);
+        }
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("만료 시간은 0보다 커야 합니다: " + ttlMillis);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PairKey, Entry> eldest) {
+                if (size() > TeamCheckCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 같은 팀 여부 조회 (캐시에 없거나 만료되었으면 팀 체크 함수 호출)
+     *
+     * 팀 체크 함수가 예외를 던지면 경고를 남기고 다른 팀으로 간주하며, 그 결과는 캐시하지 않습니다.
+     *
+     * @param attacker 공격자
+     * @param victim 피해자
+     * @param checker 팀 체크 함수 (null이면 항상 false)
+     * @return 같은 팀이면 true
+     */
+    public boolean isSameTeam(Player attacker, Player victim, BiFunction<Player, Player, Boolean> checker) {
+        if (checker == null) {
+            return false;
+        }
+
+        PairKey key = new PairKey(attacker.getUniqueId(), victim.getUniqueId());
+        long observedInvalidations = 0L;
+        if (maxSize > 0) {
+            synchronized (this) {
+                Entry entry = entries.get(key);
+                if (entry != null && clock.getAsLong() - entry.expiresAt() < 0) {
+                    hits.increment();
+                    return entry.sameTeam();
+                }
+                observedInvalidations = invalidations;
+            }
+        }
+        misses.increment();
+
+        boolean sameTeam;
+        long start = clock.getAsLong();
+        try {
+            Boolean result = checker.apply(attacker, victim);
+            sameTeam = result != null && result;
+        } catch (Exception e) {
+            checkerErrors.increment();
+            LOGGER.warning(() -> String.format("팀 체크 중 오류: %s", e.getMessage()));
+            return false;
+        } finally {
+            checkerCalls.increment();
+            checkerNanos.add(clock.getAsLong() - start);
+        }
+
+        if (maxSize > 0) {
+            synchronized (this) {
+                if (invalidations == observedInvalidations) {
+                    entries.put(key, new Entry(sameTeam, clock.getAsLong() + ttlNanos));
+                }
+            }
+        }
+        return sameTeam;
+    }
+
+    /**
+     * 플레이어가 포함된 모든 결과 무효화 (팀 가입/탈퇴, 퇴장 시)
+     */
+    public synchronized void invalidate(UUID playerId) {
+        invalidations++;
+        Iterator<PairKey> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            PairKey key = iterator.next();
+            if (key.attacker().equals(playerId) || key.victim().equals(playerId)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 두 플레이어 사이의 결과 무효화 (양방향)
+     */
+    public synchronized void invalidate(UUID first, UUID second) {
+        invalidations++;
+        entries.remove(new PairKey(first, second));
+        entries.remove(new PairKey(second, first));
+    }
+
+    /**
+     * 전체 무효화 (팀 체크 함수 교체, 팀 전체 재편성 시)
+     */
+    public synchronized void clear() {
+        invalidations++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getCheckerCalls() {
+        return checkerCalls.sum();
+    }
+
+    public long getCheckerErrors() {
+        return checkerErrors.sum();
+    }
+
+    /**
+     * 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * 팀 체크 함수 평균 호출 시간 (밀리초, 호출이 없으면 0)
+     */
+    public double getAverageCheckerMillis() {
+        long calls = checkerCalls.sum();
+        return calls == 0 ? 0.0 : (checkerNanos.sum() / 1_000_000.0) / calls;
+    }
+
+    public String getMetricsSnapshot() {
+        return String.format("teamCacheHitRate=%.3f teamCacheSize=%d teamCacheEvictions=%d " +
+                        "teamCheckerCalls=%d teamCheckerAvgMs=%.3f teamCheckerErrors=%d",
+                getHitRate(), size(), getEvictions(),
+                getCheckerCalls(), getAverageCheckerMillis(), getCheckerErrors());
+    }
+
+    private record PairKey(UUID attacker, UUID victim) { }
+
+    private record Entry(boolean sameTeam, long expiresAt) { }
+}
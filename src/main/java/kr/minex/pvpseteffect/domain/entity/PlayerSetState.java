@@ -1,34 +1,80 @@
 package kr.minex.pvpseteffect.domain.entity;
 
 import kr.minex.pvpseteffect.domain.vo.AbilityType;
+import kr.minex.pvpseteffect.domain.vo.BonusTable;
 import kr.minex.pvpseteffect.domain.vo.SetBonus;
 import org.bukkit.potion.PotionEffectType;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 플레이어의 현재 세트 효과 상태
  *
- * Thread-safe 구현으로 비동기 환경에서 안전하게 사용 가능합니다.
- * 모든 상태 변경은 원자적으로 처리됩니다.
+ * 재계산마다 {@link Builder}로 한 번 만들어지고 통째로 교체되는 불변 객체입니다.
+ * 능력치는 AbilityType.ordinal() 인덱스의 double 배열, 포션/세트 조각은 평행 배열로 보관하여
+ * 전투 중 getter 호출 시 박싱이 발생하지 않습니다.
  */
-public class PlayerSetState {
+public final class PlayerSetState {
+
+    private static final AbilityType[] ABILITY_TYPES = AbilityType.values();
+    private static final String[] NO_SETS = new String[0];
+    private static final int[] NO_INTS = new int[0];
+    private static final PotionEffectType[] NO_POTIONS = new PotionEffectType[0];
 
     private final UUID playerId;
-    private final Map<String, Integer> activeSetPieces;
-    private final Map<AbilityType, Double> abilityBonuses;
-    private final Map<PotionEffectType, Integer> potionBonuses;
-    private final AtomicLong lastUpdated;
+    private final String[] setIds;
+    private final int[] setPieces;
+    private final double[] abilities;
+    private final int abilityMask;
+    private final PotionEffectType[] potionTypes;
+    private final int[] potionLevels;
+    private final long lastUpdated;
+    private final int hash;
 
+    /**
+     * 빈 상태 생성
+     */
     public PlayerSetState(UUID playerId) {
-        Objects.requireNonNull(playerId, "playerId cannot be null");
+        this(Objects.requireNonNull(playerId, "playerId cannot be null"),
+                NO_SETS, NO_INTS, new double[ABILITY_TYPES.length], 0, NO_POTIONS, NO_INTS);
+    }
+
+    private PlayerSetState(UUID playerId, String[] setIds, int[] setPieces,
+                           double[] abilities, int abilityMask,
+                           PotionEffectType[] potionTypes, int[] potionLevels) {
         this.playerId = playerId;
-        this.activeSetPieces = new ConcurrentHashMap<>();
-        this.abilityBonuses = new ConcurrentHashMap<>();
-        this.potionBonuses = new ConcurrentHashMap<>();
-        this.lastUpdated = new AtomicLong(System.currentTimeMillis());
+        this.setIds = setIds;
+        this.setPieces = setPieces;
+        this.abilities = abilities;
+        this.abilityMask = abilityMask;
+        this.potionTypes = potionTypes;
+        this.potionLevels = potionLevels;
+        this.lastUpdated = System.currentTimeMillis();
+        this.hash = computeHash();
+    }
+
+    /**
+     * 배열 순서와 무관한 해시 (빌드 순서가 달라도 같은 상태면 같은 값)
+     */
+    private int computeHash() {
+        int setHash = 0;
+        for (int i = 0; i < setIds.length; i++) {
+            setHash += setIds[i].hashCode() ^ setPieces[i];
+        }
+        int potionHash = 0;
+        for (int i = 0; i < potionTypes.length; i++) {
+            potionHash += potionTypes[i].hashCode() ^ potionLevels[i];
+        }
+        int result = playerId.hashCode();
+        result = 31 * result + setHash;
+        result = 31 * result + Arrays.hashCode(abilities);
+        result = 31 * result + abilityMask;
+        result = 31 * result + potionHash;
+        return result;
+    }
+
+    public static Builder builder(UUID playerId) {
+        return new Builder(playerId);
     }
 
     public UUID getPlayerId() {
@@ -36,118 +82,320 @@ public class PlayerSetState {
     }
 
     public long getLastUpdated() {
-        return lastUpdated.get();
+        return lastUpdated;
     }
 
-    public void clear() {
-        activeSetPieces.clear();
-        abilityBonuses.clear();
-        potionBonuses.clear();
-        markUpdated();
+    public int getActiveSetPieces(String setId) {
+        for (int i = 0; i < setIds.length; i++) {
+            if (setIds[i].equals(setId)) {
+                return setPieces[i];
+            }
+        }
+        return 0;
     }
 
-    public void setActiveSetPieces(String setId, int pieces) {
-        if (pieces > 0) {
-            activeSetPieces.put(setId, pieces);
-        } else {
-            activeSetPieces.remove(setId);
-        }
-        markUpdated();
+    /**
+     * 활성 세트 수
+     */
+    public int getActiveSetCount() {
+        return setIds.length;
     }
 
-    public int getActiveSetPieces(String setId) {
-        return activeSetPieces.getOrDefault(setId, 0);
+    /**
+     * i번째 활성 세트 ID
+     */
+    public String getActiveSetId(int index) {
+        return setIds[index];
+    }
+
+    /**
+     * i번째 활성 세트의 착용 개수
+     */
+    public int getActiveSetPiecesAt(int index) {
+        return setPieces[index];
     }
 
     public Map<String, Integer> getAllActiveSetPieces() {
-        return Collections.unmodifiableMap(activeSetPieces);
-    }
-
-    public void applyBonuses(List<SetBonus> bonuses) {
-        for (SetBonus bonus : bonuses) {
-            if (bonus.isAbilityBonus()) {
-                // atomic 복합 연산: read-modify-write를 하나의 연산으로
-                abilityBonuses.compute(bonus.getAbilityType(),
-                        (type, current) -> (current == null ? 0.0 : current) + bonus.getValue());
-            } else if (bonus.isPotionBonus()) {
-                // atomic 복합 연산: 최대값 유지
-                potionBonuses.compute(bonus.getPotionType(),
-                        (type, current) -> {
-                            int bonusValue = bonus.getValue();
-                            return current == null ? bonusValue : Math.max(current, bonusValue);
-                        });
-            }
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < setIds.length; i++) {
+            result.put(setIds[i], setPieces[i]);
         }
-        markUpdated();
+        return Collections.unmodifiableMap(result);
     }
 
     public double getAbilityBonus(AbilityType type) {
-        return abilityBonuses.getOrDefault(type, 0.0);
+        return abilities[type.ordinal()];
     }
 
     public double getAttackBonus() {
-        return getAbilityBonus(AbilityType.ATTACK_DAMAGE);
+        return abilities[AbilityType.ATTACK_DAMAGE.ordinal()];
     }
 
     public double getDefenseBonus() {
-        return getAbilityBonus(AbilityType.DEFENSE);
+        return abilities[AbilityType.DEFENSE.ordinal()];
     }
 
     public double getEvasionChance() {
-        return getAbilityBonus(AbilityType.EVASION);
+        return abilities[AbilityType.EVASION.ordinal()];
     }
 
     public double getLifestealAmount() {
-        return getAbilityBonus(AbilityType.LIFESTEAL);
+        return abilities[AbilityType.LIFESTEAL.ordinal()];
     }
 
     public double getCriticalChance() {
-        return getAbilityBonus(AbilityType.CRITICAL_CHANCE);
+        return abilities[AbilityType.CRITICAL_CHANCE.ordinal()];
     }
 
     public double getCriticalDamage() {
-        return getAbilityBonus(AbilityType.CRITICAL_DAMAGE);
+        return abilities[AbilityType.CRITICAL_DAMAGE.ordinal()];
     }
 
     public double getRegenerationBonus() {
-        return getAbilityBonus(AbilityType.REGENERATION);
+        return abilities[AbilityType.REGENERATION.ordinal()];
     }
 
     public double getMaxHealthBonus() {
-        return getAbilityBonus(AbilityType.MAX_HEALTH);
+        return abilities[AbilityType.MAX_HEALTH.ordinal()];
     }
 
     public Map<AbilityType, Double> getAllAbilityBonuses() {
-        return Collections.unmodifiableMap(abilityBonuses);
+        Map<AbilityType, Double> result = new EnumMap<>(AbilityType.class);
+        for (AbilityType type : ABILITY_TYPES) {
+            if ((abilityMask & (1 << type.ordinal())) != 0) {
+                result.put(type, abilities[type.ordinal()]);
+            }
+        }
+        return Collections.unmodifiableMap(result);
     }
 
     public Map<PotionEffectType, Integer> getAllPotionBonuses() {
-        return Collections.unmodifiableMap(potionBonuses);
+        Map<PotionEffectType, Integer> result = new HashMap<>();
+        for (int i = 0; i < potionTypes.length; i++) {
+            result.put(potionTypes[i], potionLevels[i]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 포션 보너스 종류 수
+     */
+    public int getPotionBonusCount() {
+        return potionTypes.length;
+    }
+
+    /**
+     * i번째 포션 보너스 종류
+     */
+    public PotionEffectType getPotionTypeAt(int index) {
+        return potionTypes[index];
+    }
+
+    /**
+     * i번째 포션 보너스 레벨
+     */
+    public int getPotionLevelAt(int index) {
+        return potionLevels[index];
     }
 
     public boolean hasPotionBonus(PotionEffectType type) {
-        return potionBonuses.containsKey(type);
+        return indexOfPotion(potionTypes, potionTypes.length, type) >= 0;
     }
 
     public int getPotionLevel(PotionEffectType type) {
-        return potionBonuses.getOrDefault(type, -1);
+        int index = indexOfPotion(potionTypes, potionTypes.length, type);
+        return index >= 0 ? potionLevels[index] : -1;
     }
 
     public boolean hasAnyBonus() {
-        return !abilityBonuses.isEmpty() || !potionBonuses.isEmpty();
+        return abilityMask != 0 || potionTypes.length > 0;
     }
 
     public boolean hasAnyActiveSet() {
-        return !activeSetPieces.isEmpty();
+        return setIds.length > 0;
+    }
+
+    private static int indexOfPotion(PotionEffectType[] types, int size, PotionEffectType type) {
+        for (int i = 0; i < size; i++) {
+            if (types[i].equals(type)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
-    private void markUpdated() {
-        this.lastUpdated.set(System.currentTimeMillis());
+    /**
+     * 구조적 동등성 비교 (lastUpdated 제외, 세트/포션 순서 무관)
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlayerSetState that = (PlayerSetState) o;
+        if (hash != that.hash ||
+                abilityMask != that.abilityMask ||
+                setIds.length != that.setIds.length ||
+                potionTypes.length != that.potionTypes.length ||
+                !playerId.equals(that.playerId) ||
+                !Arrays.equals(abilities, that.abilities)) {
+            return false;
+        }
+        for (int i = 0; i < setIds.length; i++) {
+            if (that.getActiveSetPieces(setIds[i]) != setPieces[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < potionTypes.length; i++) {
+            int index = indexOfPotion(that.potionTypes, that.potionTypes.length, potionTypes[i]);
+            if (index < 0 || that.potionLevels[index] != potionLevels[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
     }
 
     @Override
     public String toString() {
         return String.format("PlayerSetState{playerId=%s, activeSets=%d, abilities=%d, potions=%d}",
-                playerId, activeSetPieces.size(), abilityBonuses.size(), potionBonuses.size());
+                playerId, setIds.length, Integer.bitCount(abilityMask), potionTypes.length);
+    }
+
+    /**
+     * PlayerSetState 빌더
+     *
+     * 단일 스레드에서 사용하며, {@link #reset(UUID)}로 초기화하여 재사용할 수 있습니다.
+     */
+    public static final class Builder {
+
+        private UUID playerId;
+        private String[] setIds = new String[4];
+        private int[] setPieces = new int[4];
+        private int setCount;
+        private final double[] abilities = new double[ABILITY_TYPES.length];
+        private int abilityMask;
+        private PotionEffectType[] potionTypes = new PotionEffectType[4];
+        private int[] potionLevels = new int[4];
+        private int potionCount;
+
+        private Builder(UUID playerId) {
+            this.playerId = Objects.requireNonNull(playerId, "playerId cannot be null");
+        }
+
+        /**
+         * 다른 플레이어용으로 빌더 초기화
+         */
+        public Builder reset(UUID playerId) {
+            this.playerId = Objects.requireNonNull(playerId, "playerId cannot be null");
+            return clear();
+        }
+
+        public Builder clear() {
+            Arrays.fill(setIds, 0, setCount, null);
+            Arrays.fill(potionTypes, 0, potionCount, null);
+            Arrays.fill(abilities, 0.0);
+            setCount = 0;
+            potionCount = 0;
+            abilityMask = 0;
+            return this;
+        }
+
+        public Builder setActiveSetPieces(String setId, int pieces) {
+            int index = -1;
+            for (int i = 0; i < setCount; i++) {
+                if (setIds[i].equals(setId)) {
+                    index = i;
+                    break;
+                }
+            }
+
+            if (pieces <= 0) {
+                if (index >= 0) {
+                    setCount--;
+                    setIds[index] = setIds[setCount];
+                    setPieces[index] = setPieces[setCount];
+                    setIds[setCount] = null;
+                }
+                return this;
+            }
+
+            if (index < 0) {
+                if (setCount == setIds.length) {
+                    setIds = Arrays.copyOf(setIds, setCount * 2);
+                    setPieces = Arrays.copyOf(setPieces, setCount * 2);
+                }
+                index = setCount++;
+                setIds[index] = setId;
+            }
+            setPieces[index] = pieces;
+            return this;
+        }
+
+        public Builder applyBonuses(List<SetBonus> bonuses) {
+            for (SetBonus bonus : bonuses) {
+                if (bonus.isAbilityBonus()) {
+                    addAbility(bonus.getAbilityType().ordinal(), bonus.getValue());
+                } else if (bonus.isPotionBonus()) {
+                    mergePotion(bonus.getPotionType(), bonus.getValue());
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 세트의 누적 보너스 테이블 적용
+         *
+         * {@link #applyBonuses(List)}와 같은 결과를 내지만 보너스 목록을 만들지 않고 테이블 배열만 읽습니다.
+         *
+         * @param table 세트 보너스 테이블
+         * @param pieces 착용 개수
+         */
+        public Builder applyBonusTable(BonusTable table, int pieces) {
+            table.addAbilitiesTo(pieces, abilities);
+            abilityMask |= table.getAbilityMask(pieces);
+
+            for (int i = 0; i < table.getPotionTypeCount(); i++) {
+                int level = table.getPotionLevel(pieces, i);
+                if (level != BonusTable.NO_POTION) {
+                    mergePotion(table.getPotionType(i), level);
+                }
+            }
+            return this;
+        }
+
+        private void addAbility(int ordinal, double value) {
+            abilities[ordinal] += value;
+            abilityMask |= 1 << ordinal;
+        }
+
+        private void mergePotion(PotionEffectType type, int level) {
+            int index = indexOfPotion(potionTypes, potionCount, type);
+            if (index >= 0) {
+                potionLevels[index] = Math.max(potionLevels[index], level);
+                return;
+            }
+
+            if (potionCount == potionTypes.length) {
+                potionTypes = Arrays.copyOf(potionTypes, potionCount * 2);
+                potionLevels = Arrays.copyOf(potionLevels, potionCount * 2);
+            }
+            potionTypes[potionCount] = type;
+            potionLevels[potionCount] = level;
+            potionCount++;
+        }
+
+        public PlayerSetState build() {
+            return new PlayerSetState(playerId,
+                    setCount == 0 ? NO_SETS : Arrays.copyOf(setIds, setCount),
+                    setCount == 0 ? NO_INTS : Arrays.copyOf(setPieces, setCount),
+                    abilities.clone(),
+                    abilityMask,
+                    potionCount == 0 ? NO_POTIONS : Arrays.copyOf(potionTypes, potionCount),
+                    potionCount == 0 ? NO_INTS : Arrays.copyOf(potionLevels, potionCount));
+        }
     }
 }
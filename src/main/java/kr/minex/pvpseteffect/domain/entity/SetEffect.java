@@ -1,5 +1,6 @@
 package kr.minex.pvpseteffect.domain.entity;
 
+import kr.minex.pvpseteffect.domain.vo.BonusTable;
 import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
 import kr.minex.pvpseteffect.domain.vo.SetBonus;
 import kr.minex.pvpseteffect.domain.vo.SetItem;
@@ -19,6 +20,16 @@ public class SetEffect {
     private final long createdAt;
     private long updatedAt;
 
+    /**
+     * 보너스 누적 테이블 캐시 (setBonus/removeBonus 시 무효화)
+     */
+    private volatile BonusTable bonusTable;
+
+    /**
+     * true면 카탈로그 스냅샷용 복사본 (수정 불가)
+     */
+    private final boolean frozen;
+
     public SetEffect(String name) {
         this.id = UUID.randomUUID().toString().substring(0, 8);
         this.name = validateName(name);
@@ -26,6 +37,7 @@ public class SetEffect {
         this.bonuses = new ConcurrentHashMap<>();
         this.createdAt = System.currentTimeMillis();
         this.updatedAt = this.createdAt;
+        this.frozen = false;
 
         for (EquipmentSlot slot : EquipmentSlot.values()) {
             items.put(slot, SetItem.empty(slot));
@@ -39,12 +51,45 @@ public class SetEffect {
         this.bonuses = new ConcurrentHashMap<>();
         this.createdAt = createdAt;
         this.updatedAt = createdAt;
+        this.frozen = false;
 
         for (EquipmentSlot slot : EquipmentSlot.values()) {
             items.put(slot, SetItem.empty(slot));
         }
     }
 
+    private SetEffect(SetEffect source) {
+        this.id = source.id;
+        this.name = source.name;
+        this.createdAt = source.createdAt;
+        this.frozen = true;
+        synchronized (source) {
+            this.items = Collections.unmodifiableMap(new EnumMap<>(source.items));
+            this.bonuses = Collections.unmodifiableMap(new HashMap<>(source.bonuses));
+            this.updatedAt = source.updatedAt;
+        }
+        this.bonusTable = BonusTable.compile(bonuses);
+    }
+
+    /**
+     * 현재 아이템/보너스를 복사하고 보너스 테이블을 미리 컴파일한 수정 불가 복사본 생성
+     *
+     * 카탈로그 스냅샷은 이 복사본을 담으므로, 이후 원본 수정은 다음 스냅샷이 게시되기 전까지 계산에 보이지 않습니다.
+     */
+    public SetEffect snapshot() {
+        return frozen ? this : new SetEffect(this);
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private void ensureMutable() {
+        if (frozen) {
+            throw new IllegalStateException("카탈로그 스냅샷의 세트는 수정할 수 없습니다: " + name);
+        }
+    }
+
     private String validateName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("세트 이름은 비어있을 수 없습니다.");
@@ -74,7 +119,10 @@ public class SetEffect {
     public void setItem(EquipmentSlot slot, SetItem item) {
         Objects.requireNonNull(slot, "slot cannot be null");
         Objects.requireNonNull(item, "item cannot be null");
-        items.put(slot, item);
+        ensureMutable();
+        synchronized (this) {
+            items.put(slot, item);
+        }
         markUpdated();
     }
 
@@ -108,12 +156,20 @@ public class SetEffect {
         if (pieces < 1 || pieces > 5) {
             throw new IllegalArgumentException("세트 수는 1~5 사이여야 합니다.");
         }
-        bonuses.put(pieces, bonus);
+        ensureMutable();
+        synchronized (this) {
+            bonuses.put(pieces, bonus);
+            bonusTable = null;
+        }
         markUpdated();
     }
 
     public void removeBonus(int pieces) {
-        bonuses.remove(pieces);
+        ensureMutable();
+        synchronized (this) {
+            bonuses.remove(pieces);
+            bonusTable = null;
+        }
         markUpdated();
     }
 
@@ -136,11 +192,30 @@ public class SetEffect {
         return active;
     }
 
+    /**
+     * 착용 개수별 누적 보너스 테이블 반환
+     *
+     * 처음 요청될 때 컴파일되며, 보너스가 바뀌기 전까지 같은 인스턴스를 재사용합니다.
+     */
+    public BonusTable getBonusTable() {
+        BonusTable table = bonusTable;
+        if (table == null) {
+            synchronized (this) {
+                table = bonusTable;
+                if (table == null) {
+                    table = BonusTable.compile(bonuses);
+                    bonusTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
     public boolean hasAnyBonus() {
         return !bonuses.isEmpty();
     }
 
-    private void markUpdated() {
+    private synchronized void markUpdated() {
         this.updatedAt = System.currentTimeMillis();
     }
 
@@ -0,0 +1,150 @@
+package kr.minex.pvpseteffect.domain.vo;
+
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세트 보너스 누적 테이블 Value Object
+ *
+ * 착용 개수(0~5)별로 누적된 능력치 벡터(AbilityType.ordinal() 인덱스)와
+ * 포션 레벨 배열을 미리 계산해 둡니다. 재계산 시 보너스 목록을 만들지 않고 배열만 읽습니다.
+ * 불변 객체로 설계하여 스레드 안전성 보장
+ */
+public final class BonusTable {
+
+    public static final int MAX_PIECES = 5;
+
+    /**
+     * 해당 착용 개수에서 포션 보너스가 없음을 나타내는 값
+     */
+    public static final int NO_POTION = Integer.MIN_VALUE;
+
+    private static final AbilityType[] ABILITY_TYPES = AbilityType.values();
+
+    private static final BonusTable EMPTY = compile(Map.of());
+
+    private final double[][] abilities;
+    private final int[] abilityMasks;
+    private final PotionEffectType[] potionTypes;
+    private final int[][] potionLevels;
+
+    private BonusTable(double[][] abilities, int[] abilityMasks,
+                       PotionEffectType[] potionTypes, int[][] potionLevels) {
+        this.abilities = abilities;
+        this.abilityMasks = abilityMasks;
+        this.potionTypes = potionTypes;
+        this.potionLevels = potionLevels;
+    }
+
+    public static BonusTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 착용 개수별 보너스 맵으로부터 누적 테이블 생성
+     *
+     * {@code SetEffect.getActiveBonuses(int)}와 같은 규칙으로 누적합니다.
+     * 능력치는 합산하고, 같은 포션은 가장 높은 레벨을 유지합니다.
+     *
+     * @param bonuses 착용 개수 → 보너스
+     * @return 새 테이블
+     */
+    public static BonusTable compile(Map<Integer, SetBonus> bonuses) {
+        List<PotionEffectType> types = new ArrayList<>();
+        for (int pieces = 1; pieces <= MAX_PIECES; pieces++) {
+            SetBonus bonus = bonuses.get(pieces);
+            if (bonus != null && bonus.isPotionBonus() && !types.contains(bonus.getPotionType())) {
+                types.add(bonus.getPotionType());
+            }
+        }
+
+        double[][] abilities = new double[MAX_PIECES + 1][ABILITY_TYPES.length];
+        int[] abilityMasks = new int[MAX_PIECES + 1];
+        int[][] potionLevels = new int[MAX_PIECES + 1][types.size()];
+        Arrays.fill(potionLevels[0], NO_POTION);
+
+        for (int pieces = 1; pieces <= MAX_PIECES; pieces++) {
+            System.arraycopy(abilities[pieces - 1], 0, abilities[pieces], 0, ABILITY_TYPES.length);
+            System.arraycopy(potionLevels[pieces - 1], 0, potionLevels[pieces], 0, types.size());
+            abilityMasks[pieces] = abilityMasks[pieces - 1];
+
+            SetBonus bonus = bonuses.get(pieces);
+            if (bonus == null) {
+                continue;
+            }
+
+            if (bonus.isAbilityBonus()) {
+                int ordinal = bonus.getAbilityType().ordinal();
+                abilities[pieces][ordinal] += bonus.getValue();
+                abilityMasks[pieces] |= 1 << ordinal;
+            } else if (bonus.isPotionBonus()) {
+                int index = types.indexOf(bonus.getPotionType());
+                potionLevels[pieces][index] = Math.max(potionLevels[pieces][index], bonus.getValue());
+            }
+        }
+
+        return new BonusTable(abilities, abilityMasks,
+                types.toArray(new PotionEffectType[0]), potionLevels);
+    }
+
+    /**
+     * 착용 개수에 해당하는 누적 능력치
+     */
+    public double getAbility(int pieces, AbilityType type) {
+        return abilities[clampPieces(pieces)][type.ordinal()];
+    }
+
+    /**
+     * 착용 개수에서 보너스가 설정된 능력치 비트 마스크 (1 << AbilityType.ordinal())
+     */
+    public int getAbilityMask(int pieces) {
+        return abilityMasks[clampPieces(pieces)];
+    }
+
+    /**
+     * 착용 개수에 해당하는 누적 능력치를 주어진 배열에 더함
+     *
+     * @param pieces 착용 개수
+     * @param totals AbilityType.ordinal() 인덱스 배열
+     */
+    public void addAbilitiesTo(int pieces, double[] totals) {
+        double[] row = abilities[clampPieces(pieces)];
+        for (int i = 0; i < row.length; i++) {
+            totals[i] += row[i];
+        }
+    }
+
+    /**
+     * 이 세트가 사용하는 포션 종류 수
+     */
+    public int getPotionTypeCount() {
+        return potionTypes.length;
+    }
+
+    public PotionEffectType getPotionType(int index) {
+        return potionTypes[index];
+    }
+
+    /**
+     * 착용 개수에서의 포션 레벨
+     *
+     * @return 레벨, 보너스가 없으면 {@link #NO_POTION}
+     */
+    public int getPotionLevel(int pieces, int index) {
+        return potionLevels[clampPieces(pieces)][index];
+    }
+
+    private static int clampPieces(int pieces) {
+        return Math.max(0, Math.min(MAX_PIECES, pieces));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BonusTable{abilities=%s, potions=%d}",
+                Arrays.toString(abilities[MAX_PIECES]), potionTypes.length);
+    }
+}
@@ -0,0 +1,181 @@
+package kr.minex.pvpseteffect.domain.vo;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 장비 지문 Value Object
+ *
+ * 재계산 결과를 결정하는 정보(슬롯별 Material + 표시 이름 + 세트 태그)와 세트 카탈로그 리비전만 담습니다.
+ * 지문이 같으면 재계산 결과도 같으므로, 이전 결과를 그대로 재사용할 수 있습니다.
+ */
+public final class EquipmentFingerprint {
+
+    private static final int SLOT_COUNT = EquipmentSlot.getTotalSlots();
+
+    private final Material[] materials;
+    private final String[] displayNames;
+    private final String[] tags;
+    private final long catalogRevision;
+    private final int hash;
+
+    private EquipmentFingerprint(Material[] materials, String[] displayNames, String[] tags, long catalogRevision) {
+        this.materials = materials;
+        this.displayNames = displayNames;
+        this.tags = tags;
+        this.catalogRevision = catalogRevision;
+        this.hash = 31 * (31 * (31 * Arrays.hashCode(materials) + Arrays.hashCode(displayNames))
+                + Arrays.hashCode(tags)) + Long.hashCode(catalogRevision);
+    }
+
+    /**
+     * 버퍼에 담긴 슬롯 정보로 지문 생성 (버퍼는 복사됨)
+     *
+     * @param materials 슬롯 인덱스별 Material (빈 슬롯은 null)
+     * @param displayNames 슬롯 인덱스별 표시 이름 (이름이 없으면 null)
+     * @param tags 슬롯 인덱스별 세트 태그 (태그가 없으면 null)
+     * @param catalogRevision 세트 카탈로그 리비전
+     * @return 새 지문
+     */
+    public static EquipmentFingerprint of(Material[] materials, String[] displayNames, String[] tags,
+                                          long catalogRevision) {
+        return new EquipmentFingerprint(Arrays.copyOf(materials, SLOT_COUNT),
+                Arrays.copyOf(displayNames, SLOT_COUNT), Arrays.copyOf(tags, SLOT_COUNT), catalogRevision);
+    }
+
+    /**
+     * 착용 아이템 하나를 슬롯 버퍼에 기록
+     *
+     * 재계산 경로에서 지문 객체를 만들지 않고 재사용 버퍼에 읽어 들일 때 사용합니다.
+     *
+     * @param item 착용 아이템 (null 허용)
+     * @param slot 장비 슬롯
+     * @param materials 슬롯 인덱스별 Material 버퍼
+     * @param displayNames 슬롯 인덱스별 표시 이름 버퍼
+     * @param tags 슬롯 인덱스별 세트 태그 버퍼
+     */
+    public static void readSlot(ItemStack item, EquipmentSlot slot, Material[] materials, String[] displayNames,
+                                String[] tags) {
+        int index = slot.getIndex();
+        materials[index] = null;
+        displayNames[index] = null;
+        tags[index] = null;
+        read(item, index, materials, displayNames, tags);
+    }
+
+    /**
+     * 이 지문의 슬롯 정보를 버퍼에 복사
+     */
+    public void copyInto(Material[] materials, String[] displayNames, String[] tags) {
+        System.arraycopy(this.materials, 0, materials, 0, SLOT_COUNT);
+        System.arraycopy(this.displayNames, 0, displayNames, 0, SLOT_COUNT);
+        System.arraycopy(this.tags, 0, tags, 0, SLOT_COUNT);
+    }
+
+    /**
+     * 버퍼에 담긴 슬롯 정보와 같은지 확인 (객체 생성 없음)
+     */
+    public boolean matches(Material[] materials, String[] displayNames, String[] tags, long catalogRevision) {
+        if (this.catalogRevision != catalogRevision) {
+            return false;
+        }
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (this.materials[i] != materials[i] ||
+                    !Objects.equals(this.displayNames[i], displayNames[i]) ||
+                    !Objects.equals(this.tags[i], tags[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 특정 슬롯이 버퍼의 슬롯 정보와 같은지 확인
+     */
+    public boolean matchesSlot(EquipmentSlot slot, Material material, String displayName, String tag) {
+        int index = slot.getIndex();
+        return materials[index] == material &&
+                Objects.equals(displayNames[index], displayName) &&
+                Objects.equals(tags[index], tag);
+    }
+
+    /**
+     * 슬롯 하나를 버퍼에 기록 ({@link ItemKey#of(ItemStack)}와 같은 규칙, 키 객체는 만들지 않음)
+     */
+    private static void read(ItemStack item, int index, Material[] materials, String[] displayNames, String[] tags) {
+        if (item == null || item.getType() == Material.AIR) {
+            return;
+        }
+
+        materials[index] = item.getType();
+        if (item.hasItemMeta()) {
+            ItemMeta meta = item.getItemMeta();
+            if (meta != null) {
+                if (meta.hasDisplayName()) {
+                    displayNames[index] = meta.getDisplayName();
+                }
+                tags[index] = SetItemTag.read(meta);
+            }
+        }
+    }
+
+    /**
+     * 슬롯의 매칭 키
+     */
+    public ItemKey getItemKey(EquipmentSlot slot) {
+        int index = slot.getIndex();
+        return ItemKey.of(materials[index], displayNames[index], tags[index]);
+    }
+
+    /**
+     * 슬롯의 Material (비어 있으면 null)
+     */
+    public Material getMaterial(EquipmentSlot slot) {
+        return materials[slot.getIndex()];
+    }
+
+    /**
+     * 슬롯 아이템의 표시 이름 (이름이 없으면 null)
+     */
+    public String getDisplayName(EquipmentSlot slot) {
+        return displayNames[slot.getIndex()];
+    }
+
+    /**
+     * 슬롯 아이템의 세트 태그 (태그가 없으면 null)
+     */
+    public String getTag(EquipmentSlot slot) {
+        return tags[slot.getIndex()];
+    }
+
+    public long getCatalogRevision() {
+        return catalogRevision;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EquipmentFingerprint that = (EquipmentFingerprint) o;
+        return hash == that.hash &&
+                catalogRevision == that.catalogRevision &&
+                Arrays.equals(materials, that.materials) &&
+                Arrays.equals(displayNames, that.displayNames) &&
+                Arrays.equals(tags, that.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EquipmentFingerprint{materials=%s, revision=%d}",
+                Arrays.toString(materials), catalogRevision);
+    }
+}
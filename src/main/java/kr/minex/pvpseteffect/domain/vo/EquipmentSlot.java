@@ -12,6 +12,11 @@ public enum EquipmentSlot {
     BOOTS(3, "부츠"),
     WEAPON(4, "무기");
 
+    /**
+     * 모든 슬롯을 포함하는 비트 마스크
+     */
+    public static final int ALL_SLOTS_MASK = (1 << 5) - 1;
+
     private final int index;
     private final String displayName;
 
@@ -28,6 +33,15 @@ public enum EquipmentSlot {
         return displayName;
     }
 
+    /**
+     * 슬롯 비트 마스크 (1 << index)
+     *
+     * 변경된 슬롯 집합을 int 하나로 전달할 때 사용합니다.
+     */
+    public int getMask() {
+        return 1 << index;
+    }
+
     public static EquipmentSlot fromIndex(int index) {
         for (EquipmentSlot slot : values()) {
             if (slot.index == index) {
@@ -37,6 +51,24 @@ public enum EquipmentSlot {
         return null;
     }
 
+    /**
+     * 한글 표시 이름 또는 영문 슬롯 이름으로 EquipmentSlot 반환
+     *
+     * @param name 표시 이름(예: 투구) 또는 영문 이름(예: HELMET, 대소문자 무관)
+     * @return 일치하는 슬롯, 없으면 null
+     */
+    public static EquipmentSlot fromDisplayName(String name) {
+        if (name == null) {
+            return null;
+        }
+        for (EquipmentSlot slot : values()) {
+            if (slot.displayName.equals(name) || slot.name().equalsIgnoreCase(name)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
     public static int getTotalSlots() {
         return values().length;
     }
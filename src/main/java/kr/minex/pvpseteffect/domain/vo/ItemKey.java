@@ -0,0 +1,134 @@
+package kr.minex.pvpseteffect.domain.vo;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Objects;
+
+/**
+ * 착용 아이템 매칭 키 Value Object
+ *
+ * 세트 매칭에 필요한 정보(Material, 표시 이름, 세트 태그)를 슬롯당 한 번만 추출합니다.
+ * CraftBukkit의 getItemMeta()는 매번 메타를 복제하므로, 세트 수와 무관하게 슬롯당 한 번만 읽도록 합니다.
+ * 불변 객체로 설계하여 스레드 안전성 보장
+ */
+public final class ItemKey {
+
+    /**
+     * 빈 슬롯 (null 또는 AIR)
+     */
+    public static final ItemKey EMPTY = new ItemKey(null, null, null);
+
+    private final Material material;
+    private final String displayName;
+    private final String tag;
+
+    private ItemKey(Material material, String displayName, String tag) {
+        this.material = material;
+        this.displayName = displayName;
+        this.tag = tag;
+    }
+
+    /**
+     * 아이템에서 매칭 키 추출 (ItemMeta는 최대 한 번만 읽음)
+     *
+     * @param item 착용 아이템 (null 허용)
+     * @return 매칭 키, 빈 슬롯이면 {@link #EMPTY}
+     */
+    public static ItemKey of(ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) {
+            return EMPTY;
+        }
+
+        String displayName = null;
+        String tag = null;
+        if (item.hasItemMeta()) {
+            ItemMeta meta = item.getItemMeta();
+            if (meta != null) {
+                if (meta.hasDisplayName()) {
+                    displayName = meta.getDisplayName();
+                }
+                tag = SetItemTag.read(meta);
+            }
+        }
+        return new ItemKey(item.getType(), displayName, tag);
+    }
+
+    /**
+     * 이미 추출한 정보로 매칭 키 생성
+     *
+     * @param material Material (빈 슬롯이면 null)
+     * @param displayName 표시 이름 (이름이 없으면 null)
+     */
+    public static ItemKey of(Material material, String displayName) {
+        return of(material, displayName, null);
+    }
+
+    /**
+     * 이미 추출한 정보로 매칭 키 생성
+     *
+     * @param material Material (빈 슬롯이면 null)
+     * @param displayName 표시 이름 (이름이 없으면 null)
+     * @param tag 세트 태그 값 (태그가 없으면 null)
+     */
+    public static ItemKey of(Material material, String displayName, String tag) {
+        if (material == null || material == Material.AIR) {
+            return EMPTY;
+        }
+        return new ItemKey(material, displayName, tag);
+    }
+
+    public Material getMaterial() {
+        return material;
+    }
+
+    public boolean hasDisplayName() {
+        return displayName != null;
+    }
+
+    /**
+     * 표시 이름 (이름이 없으면 null)
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public boolean hasTag() {
+        return tag != null;
+    }
+
+    /**
+     * 세트 태그 값 (태그가 없으면 null)
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    public boolean isEmpty() {
+        return material == null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ItemKey itemKey = (ItemKey) o;
+        return material == itemKey.material &&
+                Objects.equals(displayName, itemKey.displayName) &&
+                Objects.equals(tag, itemKey.tag);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(material, displayName, tag);
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "ItemKey{empty}";
+        }
+        return String.format("ItemKey{material=%s, displayName=%s, tag=%s}", material, displayName, tag);
+    }
+}
@@ -0,0 +1,58 @@
+package kr.minex.pvpseteffect.domain.vo;
+
+/**
+ * 세트 아이템 매칭 모드
+ *
+ * 착용 아이템이 세트 아이템과 같은지 판단하는 기준을 결정합니다.
+ */
+public enum ItemMatchMode {
+    /**
+     * 이름 기준
+     *
+     * - Material과 표시 이름이 정확히 일치해야 함
+     * - 모루에서 이름을 바꾸거나 색상 코드가 달라지면 매칭되지 않음
+     */
+    NAME("이름 기준"),
+
+    /**
+     * Material 기준
+     *
+     * - Material이 일치하고 착용 아이템에 표시 이름이 없어야 함
+     */
+    MATERIAL("Material 기준"),
+
+    /**
+     * 태그 기준
+     *
+     * - 아이템의 PersistentDataContainer에 기록된 세트 태그({@link SetItemTag})가 일치해야 함
+     * - 이름/Material과 무관하므로 이름을 바꿔도 매칭이 유지됨
+     */
+    TAG("태그 기준");
+
+    private final String displayName;
+
+    ItemMatchMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 문자열에서 모드 파싱
+     *
+     * @param value 저장된 값 (대소문자 무관)
+     * @return 파싱된 모드, 잘못된 값이면 null 반환
+     */
+    public static ItemMatchMode fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.toUpperCase().trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -10,8 +10,9 @@ import java.util.Objects;
  * 세트 아이템 정보를 담는 Value Object
  *
  * 아이템 식별 우선순위:
- * 1. DisplayName (커스텀 이름이 있는 경우)
- * 2. Material + "기본" 표시 (커스텀 이름이 없는 경우)
+ * 1. 세트 태그 (PersistentDataContainer에 태그가 기록된 경우)
+ * 2. DisplayName (커스텀 이름이 있는 경우)
+ * 3. Material + "기본" 표시 (커스텀 이름이 없는 경우)
  */
 public final class SetItem {
 
@@ -19,12 +20,24 @@ public final class SetItem {
     private final String itemName;
     private final Material material;
     private final boolean hasCustomName;
+    private final String tag;
+    private final ItemMatchMode matchMode;
 
-    public SetItem(EquipmentSlot slot, String itemName, Material material, boolean hasCustomName) {
+    public SetItem(EquipmentSlot slot, String itemName, Material material, boolean hasCustomName, String tag) {
         this.slot = Objects.requireNonNull(slot, "slot cannot be null");
         this.itemName = itemName;
         this.material = material;
         this.hasCustomName = hasCustomName;
+        this.tag = tag;
+        if (tag != null) {
+            this.matchMode = ItemMatchMode.TAG;
+        } else {
+            this.matchMode = hasCustomName ? ItemMatchMode.NAME : ItemMatchMode.MATERIAL;
+        }
+    }
+
+    public SetItem(EquipmentSlot slot, String itemName, Material material, boolean hasCustomName) {
+        this(slot, itemName, material, hasCustomName, null);
     }
 
     public SetItem(EquipmentSlot slot, String itemName, Material material) {
@@ -47,12 +60,16 @@ public final class SetItem {
 
         String name = null;
         boolean hasCustom = false;
+        String tag = null;
 
         if (item.hasItemMeta()) {
             ItemMeta meta = item.getItemMeta();
-            if (meta != null && meta.hasDisplayName()) {
-                name = meta.getDisplayName();
-                hasCustom = true;
+            if (meta != null) {
+                if (meta.hasDisplayName()) {
+                    name = meta.getDisplayName();
+                    hasCustom = true;
+                }
+                tag = SetItemTag.read(meta);
             }
         }
 
@@ -62,7 +79,17 @@ public final class SetItem {
             hasCustom = false;
         }
 
-        return new SetItem(slot, name, item.getType(), hasCustom);
+        return new SetItem(slot, name, item.getType(), hasCustom, tag);
+    }
+
+    /**
+     * 태그 기준 세트 아이템으로 변환 (표시용 이름/Material은 유지)
+     *
+     * @param tag 세트 태그 값
+     * @return 새 세트 아이템
+     */
+    public SetItem withTag(String tag) {
+        return new SetItem(slot, itemName, material, hasCustomName, Objects.requireNonNull(tag, "tag cannot be null"));
     }
 
     /**
@@ -90,6 +117,17 @@ public final class SetItem {
         return material;
     }
 
+    /**
+     * 세트 태그 값 (태그 기준이 아니면 null)
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    public ItemMatchMode getMatchMode() {
+        return matchMode;
+    }
+
     public boolean isEmpty() {
         return material == null;
     }
@@ -98,6 +136,7 @@ public final class SetItem {
      * 주어진 아이템이 이 세트 아이템과 일치하는지 확인합니다.
      *
      * 매칭 로직:
+     * - 태그 기준 세트 아이템: 세트 태그가 정확히 일치해야 함 (Material/이름 무관)
      * - 커스텀 이름이 있는 세트 아이템: displayName이 정확히 일치해야 함
      * - 커스텀 이름이 없는 세트 아이템: Material이 일치하고 대상 아이템도 커스텀 이름이 없어야 함
      *
@@ -105,41 +144,46 @@ public final class SetItem {
      * @return 일치하면 true
      */
     public boolean matches(ItemStack item) {
-        if (isEmpty()) {
+        if (isEmpty() || item == null || item.getType() == Material.AIR) {
+            return false;
+        }
+        if (matchMode != ItemMatchMode.TAG && material != item.getType()) {
             return false;
         }
+        return matches(ItemKey.of(item));
+    }
 
-        if (item == null || item.getType() == Material.AIR) {
+    /**
+     * 미리 추출한 매칭 키로 일치 여부 확인 (ItemMeta를 읽지 않음)
+     *
+     * 여러 세트와 비교할 때는 슬롯당 한 번 {@link ItemKey#of(ItemStack)}로 키를 만든 뒤 이 메서드를 사용합니다.
+     *
+     * @param key 착용 아이템 매칭 키
+     * @return 일치하면 true
+     */
+    public boolean matches(ItemKey key) {
+        if (isEmpty() || key == null || key.isEmpty()) {
             return false;
         }
 
+        // 태그 기준 세트 아이템은 태그만 비교
+        if (matchMode == ItemMatchMode.TAG) {
+            return tag.equals(key.getTag());
+        }
+
         // Material이 다르면 무조건 불일치
-        if (material != item.getType()) {
+        if (material != key.getMaterial()) {
             return false;
         }
 
         // 커스텀 이름이 있는 세트 아이템인 경우
         if (hasCustomName) {
-            if (!item.hasItemMeta()) {
-                return false;
-            }
-            ItemMeta meta = item.getItemMeta();
-            if (meta == null || !meta.hasDisplayName()) {
-                return false;
-            }
-            return itemName.equals(meta.getDisplayName());
+            return key.hasDisplayName() && itemName.equals(key.getDisplayName());
         }
 
         // 커스텀 이름이 없는 세트 아이템인 경우
         // 대상 아이템도 커스텀 이름이 없어야 매칭
-        if (item.hasItemMeta()) {
-            ItemMeta meta = item.getItemMeta();
-            if (meta != null && meta.hasDisplayName()) {
-                return false; // 대상에 커스텀 이름이 있으면 불일치
-            }
-        }
-
-        return true; // Material 일치 + 둘 다 커스텀 이름 없음
+        return !key.hasDisplayName();
     }
 
     /**
@@ -153,8 +197,11 @@ public final class SetItem {
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
 
-        if (meta != null && hasCustomName) {
-            meta.setDisplayName(itemName);
+        if (meta != null && (hasCustomName || tag != null)) {
+            if (hasCustomName) {
+                meta.setDisplayName(itemName);
+            }
+            SetItemTag.write(meta, tag);
             item.setItemMeta(meta);
         }
 
@@ -169,12 +216,13 @@ public final class SetItem {
         return slot == setItem.slot &&
                 hasCustomName == setItem.hasCustomName &&
                 Objects.equals(itemName, setItem.itemName) &&
-                material == setItem.material;
+                material == setItem.material &&
+                Objects.equals(tag, setItem.tag);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(slot, itemName, material, hasCustomName);
+        return Objects.hash(slot, itemName, material, hasCustomName, tag);
     }
 
     @Override
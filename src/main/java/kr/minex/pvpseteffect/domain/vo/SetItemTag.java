@@ -0,0 +1,71 @@
+package kr.minex.pvpseteffect.domain.vo;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+/**
+ * 세트 아이템 태그 (PersistentDataContainer)
+ *
+ * 태그 값은 "세트ID:슬롯" 형식의 문자열이며, {@link ItemMatchMode#TAG} 모드의 세트 아이템이
+ * 표시 이름 대신 이 값 하나로 착용 아이템을 식별합니다.
+ */
+public final class SetItemTag {
+
+    /**
+     * 태그 키 (네임스페이스는 플러그인 이름과 같음)
+     */
+    public static final NamespacedKey KEY = new NamespacedKey("pvpseteffect", "set_item");
+
+    private SetItemTag() {
+        // Utility class
+    }
+
+    /**
+     * 세트 ID와 슬롯으로 태그 값 생성
+     *
+     * @param setId 세트 ID
+     * @param slot 장비 슬롯
+     * @return 태그 값
+     */
+    public static String valueOf(String setId, EquipmentSlot slot) {
+        if (setId == null || setId.isEmpty()) {
+            throw new IllegalArgumentException("세트 ID는 비어있을 수 없습니다");
+        }
+        if (slot == null) {
+            throw new IllegalArgumentException("장비 슬롯은 null일 수 없습니다");
+        }
+        return setId + ":" + slot.name();
+    }
+
+    /**
+     * 아이템 메타에서 태그 값 읽기
+     *
+     * @param meta 아이템 메타 (null 허용)
+     * @return 태그 값, 없으면 null
+     */
+    public static String read(ItemMeta meta) {
+        if (meta == null) {
+            return null;
+        }
+        PersistentDataContainer container = meta.getPersistentDataContainer();
+        if (container == null || container.isEmpty()) {
+            return null;
+        }
+        return container.get(KEY, PersistentDataType.STRING);
+    }
+
+    /**
+     * 아이템 메타에 태그 값 기록 (호출자가 ItemStack#setItemMeta로 반영해야 함)
+     *
+     * @param meta 아이템 메타
+     * @param value 태그 값
+     */
+    public static void write(ItemMeta meta, String value) {
+        if (meta == null || value == null) {
+            return;
+        }
+        meta.getPersistentDataContainer().set(KEY, PersistentDataType.STRING, value);
+    }
+}
@@ -30,6 +30,8 @@ public final class MessageConfig {
             ChatColor.AQUA + "%d세트" + ChatColor.WHITE + " 능력: " + ChatColor.GOLD + "%s +%d";
     public static final String POTION_SET = PREFIX + ChatColor.GREEN + "✔ " + ChatColor.YELLOW + "%s" + ChatColor.GRAY + " - " +
             ChatColor.AQUA + "%d세트" + ChatColor.WHITE + " 포션: " + ChatColor.LIGHT_PURPLE + "%s Lv.%d";
+    public static final String ITEM_TAGGED = PREFIX + ChatColor.GREEN + "✔ " + ChatColor.YELLOW + "%s" + ChatColor.GRAY + " - " +
+            ChatColor.AQUA + "%s" + ChatColor.WHITE + " 슬롯에 손에 든 아이템을 태그 기준으로 등록했습니다.";
     public static final String BONUS_REMOVED = PREFIX + ChatColor.GREEN + "✔ " + ChatColor.YELLOW + "%s" + ChatColor.GRAY + " - " +
             ChatColor.AQUA + "%d세트" + ChatColor.WHITE + " 보너스가 삭제되었습니다.";
 
@@ -53,6 +55,10 @@ public final class MessageConfig {
     public static final String ERROR_POTION_INVALID = PREFIX + ChatColor.RED + "✘ 올바른 포션을 입력해 주세요. (/세트효과 포션목록)";
     public static final String ERROR_VALUE_REQUIRED = PREFIX + ChatColor.RED + "✘ 수치를 입력해 주세요.";
     public static final String ERROR_VALUE_NUMBER = PREFIX + ChatColor.RED + "✘ 수치는 숫자로 입력해 주세요.";
+    public static final String ERROR_SLOT_REQUIRED = PREFIX + ChatColor.RED + "✘ 장비 슬롯을 입력해 주세요. (투구, 갑옷, 레깅스, 부츠, 무기)";
+    public static final String ERROR_SLOT_INVALID = PREFIX + ChatColor.RED + "✘ 올바른 장비 슬롯을 입력해 주세요. (투구, 갑옷, 레깅스, 부츠, 무기)";
+    public static final String ERROR_HAND_EMPTY = PREFIX + ChatColor.RED + "✘ 태그를 기록할 아이템을 손에 들어 주세요.";
+    public static final String ERROR_SLOT_MATERIAL = PREFIX + ChatColor.RED + "✘ 손에 든 아이템은 " + ChatColor.YELLOW + "%s" + ChatColor.RED + " 슬롯에 사용할 수 없습니다.";
     public static final String ERROR_NO_PERMISSION = PREFIX + ChatColor.RED + "✘ 이 명령어를 사용할 권한이 없습니다.";
     public static final String ERROR_PLAYER_ONLY = PREFIX + ChatColor.RED + "✘ 플레이어만 사용할 수 있는 명령어입니다.";
 
@@ -76,6 +82,7 @@ public final class MessageConfig {
     public static final String HELP_ABILITY_EX = ChatColor.GRAY + "    예) " + ChatColor.WHITE + "/세트효과 능력 드래곤 2 공격력 5";
     public static final String HELP_POTION = ChatColor.YELLOW + "  /세트효과 포션 <이름> <세트수> <포션> <레벨>";
     public static final String HELP_POTION_EX = ChatColor.GRAY + "    예) " + ChatColor.WHITE + "/세트효과 포션 드래곤 3 신속 1";
+    public static final String HELP_TAG = ChatColor.YELLOW + "  /세트효과 태그 <이름> <슬롯>" + ChatColor.GRAY + " - 손에 든 아이템을 태그로 등록";
     public static final String HELP_VIEW = ChatColor.YELLOW + "  /세트효과 능력보기 <이름>" + ChatColor.GRAY + " - 보너스 확인";
     public static final String HELP_ABILITY_LIST = ChatColor.YELLOW + "  /세트효과 능력목록" + ChatColor.GRAY + " - 능력 목록";
     public static final String HELP_POTION_LIST = ChatColor.YELLOW + "  /세트효과 포션목록" + ChatColor.GRAY + " - 포션 목록";
@@ -13,7 +13,14 @@ import java.util.Objects;
  */
 public final class PluginSettings {
 
-    public record RecalculationSettings(long debounceTicks) { }
+    /**
+     * 재계산 설정
+     *
+     * @param debounceTicks 인벤토리 이벤트 디바운스 틱
+     * @param asyncCompute true면 세트 매칭/보너스 집계를 별도 스레드에서 수행
+     * @param matchCacheSize 아이템 → 세트 소속 결과 캐시 최대 항목 수 (0이면 비활성화)
+     */
+    public record RecalculationSettings(long debounceTicks, boolean asyncCompute, int matchCacheSize) { }
 
     /**
      * 자연 만료 모드 전용 설정
@@ -23,21 +30,38 @@ public final class PluginSettings {
      */
     public record NaturalPotionSettings(int effectDuration, long reapplyInterval) { }
 
+    /**
+     * IMMEDIATE 모드 포션 작업 큐 설정
+     *
+     * @param budgetMicros 틱당 처리 예산 (마이크로초, 0이면 큐 없이 재계산 중 즉시 적용)
+     */
+    public record PotionQueueSettings(int budgetMicros) { }
+
     /**
      * 포션 효과 설정
      *
      * @param applicationMode 적용 모드 (IMMEDIATE 또는 NATURAL)
      * @param durationTicks IMMEDIATE 모드 전용: 지속 시간
      * @param natural NATURAL 모드 전용 설정
+     * @param queue IMMEDIATE 모드 작업 큐 설정
      */
     public record PotionSettings(
             PotionApplicationMode applicationMode,
             int durationTicks,
-            NaturalPotionSettings natural
+            NaturalPotionSettings natural,
+            PotionQueueSettings queue
     ) { }
 
     public record LifestealSettings(double triggerChance, double healScale) { }
 
+    /**
+     * 팀 체크 결과 캐시 설정
+     *
+     * @param maxSize 최대 항목 수 (0이면 비활성화)
+     * @param ttlSeconds 결과 유지 시간 (초)
+     */
+    public record TeamCacheSettings(int maxSize, int ttlSeconds) { }
+
     public record CombatSettings(
             double attackScale,
             double defenseScale,
@@ -47,7 +71,8 @@ public final class PluginSettings {
             LifestealSettings lifesteal,
             double regenScale,
             double minDamage,
-            double healthScale
+            double healthScale,
+            TeamCacheSettings teamCache
     ) { }
 
     public record MetricsSettings(int intervalMinutes) { }
@@ -69,6 +94,8 @@ public final class PluginSettings {
         FileConfiguration c = plugin.getConfig();
 
         long debounceTicks = clampLong(c.getLong("recalculation.debounceTicks", 1L), 0L, 20L * 5L);
+        boolean asyncCompute = c.getBoolean("recalculation.asyncCompute", true);
+        int matchCacheSize = clampInt(c.getInt("recalculation.matchCacheSize", 1024), 0, 65_536);
 
         // 포션 설정
         PotionApplicationMode applicationMode = PotionApplicationMode.fromString(
@@ -76,6 +103,7 @@ public final class PluginSettings {
         int potionDuration = clampInt(c.getInt("potion.durationTicks", Integer.MAX_VALUE), 1, Integer.MAX_VALUE);
         int naturalEffectDuration = clampInt(c.getInt("potion.natural.effectDuration", 60), 20, 20 * 30);
         long naturalReapplyInterval = clampLong(c.getLong("potion.natural.reapplyInterval", 40L), 10L, 20L * 30L);
+        int queueBudgetMicros = clampInt(c.getInt("potion.queue.budgetMicros", 1000), 0, 50_000);
 
         double attackScale = clampDouble(c.getDouble("combat.attackScale", 2.0), 0.1, 1000.0);
         double defenseScale = clampDouble(c.getDouble("combat.defenseScale", 2.0), 0.1, 1000.0);
@@ -89,15 +117,18 @@ public final class PluginSettings {
         double regenScale = clampDouble(c.getDouble("combat.regenScale", 2.0), 0.1, 1000.0);
         double minDamage = clampDouble(c.getDouble("combat.minDamage", 0.0), 0.0, 10_000.0);
         double healthScale = clampDouble(c.getDouble("combat.healthScale", 1.0), 0.1, 1000.0);
+        int teamCacheSize = clampInt(c.getInt("combat.teamCache.maxSize", 2048), 0, 65_536);
+        int teamCacheTtl = clampInt(c.getInt("combat.teamCache.ttlSeconds", 30), 1, 60 * 60);
 
         int metricsIntervalMinutes = clampInt(c.getInt("metrics.intervalMinutes", 5), 0, 24 * 60);
 
         return new PluginSettings(
-                new RecalculationSettings(debounceTicks),
+                new RecalculationSettings(debounceTicks, asyncCompute, matchCacheSize),
                 new PotionSettings(
                         applicationMode,
                         potionDuration,
-                        new NaturalPotionSettings(naturalEffectDuration, naturalReapplyInterval)
+                        new NaturalPotionSettings(naturalEffectDuration, naturalReapplyInterval),
+                        new PotionQueueSettings(queueBudgetMicros)
                 ),
                 new CombatSettings(
                         attackScale,
@@ -108,7 +139,8 @@ public final class PluginSettings {
                         new LifestealSettings(lifestealChance, lifestealHealScale),
                         regenScale,
                         minDamage,
-                        healthScale
+                        healthScale,
+                        new TeamCacheSettings(teamCacheSize, teamCacheTtl)
                 ),
                 new MetricsSettings(metricsIntervalMinutes)
         );
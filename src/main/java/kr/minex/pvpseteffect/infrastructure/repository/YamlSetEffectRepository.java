@@ -101,6 +101,10 @@ public class YamlSetEffectRepository implements SetEffectRepository {
                 if (item != null && !item.isEmpty()) {
                     config.set(itemPath + ".name", item.getItemName());
                     config.set(itemPath + ".has_custom_name", item.hasCustomName());
+                    config.set(itemPath + ".match", item.getMatchMode().name());
+                    if (item.getTag() != null) {
+                        config.set(itemPath + ".tag", item.getTag());
+                    }
                     if (item.getMaterial() != null) {
                         config.set(itemPath + ".material", item.getMaterial().name());
                     }
@@ -194,8 +198,23 @@ public class YamlSetEffectRepository implements SetEffectRepository {
                         boolean hasCustomName = itemSection.getBoolean("has_custom_name", true);
                         Material material = materialName != null ? Material.getMaterial(materialName) : null;
 
+                        // match 키가 없으면(이전 버전 데이터) has_custom_name으로 이름/Material 기준 판단
+                        String tag = null;
+                        String matchName = itemSection.getString("match");
+                        ItemMatchMode matchMode = ItemMatchMode.fromString(matchName);
+                        if (matchName != null && matchMode == null) {
+                            plugin.getLogger().warning("알 수 없는 매칭 모드: " + matchName + " (" + id + "." + slotName + ")");
+                        } else if (matchMode == ItemMatchMode.TAG) {
+                            tag = itemSection.getString("tag");
+                            if (tag == null) {
+                                plugin.getLogger().warning("태그 기준 아이템에 태그가 없음: " + id + "." + slotName);
+                            }
+                        } else if (matchMode != null) {
+                            hasCustomName = matchMode == ItemMatchMode.NAME;
+                        }
+
                         if (material != null) {
-                            setEffect.setItem(slot, new SetItem(slot, itemName, material, hasCustomName));
+                            setEffect.setItem(slot, new SetItem(slot, itemName, material, hasCustomName, tag));
                         }
                     }
                 } catch (IllegalArgumentException e) {
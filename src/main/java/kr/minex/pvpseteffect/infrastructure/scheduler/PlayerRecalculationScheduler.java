@@ -5,7 +5,9 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 import kr.minex.pvpseteffect.application.service.PlayerEffectService;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -17,6 +19,9 @@ import java.util.logging.Logger;
  *
  * Inventory events can fire in bursts (shift-click, drag, swap hand, etc). Without debouncing, a single
  * player can enqueue dozens of 1-tick tasks, creating avoidable main-thread pressure on busy servers.
+ *
+ * Each request may carry a dirty-slot mask. Masks of coalesced requests are OR-ed together, and when not every
+ * slot is dirty the player is recalculated incrementally for just those slots.
  */
 public final class PlayerRecalculationScheduler {
 
@@ -25,6 +30,7 @@ public final class PlayerRecalculationScheduler {
     private final Plugin plugin;
     private final PlayerEffectService playerEffectService;
     private final ConcurrentMap<UUID, BukkitTask> pending = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Integer> pendingSlots = new ConcurrentHashMap<>();
     private final long delayTicks;
 
     public PlayerRecalculationScheduler(Plugin plugin, PlayerEffectService playerEffectService, long delayTicks) {
@@ -34,11 +40,20 @@ public final class PlayerRecalculationScheduler {
     }
 
     public void request(Player player) {
-        if (player == null) {
+        request(player, EquipmentSlot.ALL_SLOTS_MASK);
+    }
+
+    /**
+     * @param player 대상 플레이어
+     * @param dirtySlots 변경됐을 수 있는 슬롯 마스크 ({@link EquipmentSlot#getMask()}의 조합)
+     */
+    public void request(Player player, int dirtySlots) {
+        if (player == null || dirtySlots == 0) {
             return;
         }
         UUID playerId = player.getUniqueId();
 
+        pendingSlots.merge(playerId, dirtySlots, (a, b) -> a | b);
         pending.compute(playerId, (id, existing) -> {
             if (existing != null && !existing.isCancelled()) {
                 return existing; // already scheduled this tick-window
@@ -46,10 +61,16 @@ public final class PlayerRecalculationScheduler {
 
             return Bukkit.getScheduler().runTaskLater(plugin, () -> {
                 pending.remove(id);
+                Integer slots = pendingSlots.remove(id);
+                int mask = slots != null ? slots : EquipmentSlot.ALL_SLOTS_MASK;
                 try {
                     // 플레이어가 오프라인이면 스킵
                     if (player.isOnline()) {
-                        playerEffectService.recalculateAndApply(player);
+                        if ((mask & EquipmentSlot.ALL_SLOTS_MASK) == EquipmentSlot.ALL_SLOTS_MASK) {
+                            playerEffectService.recalculateAndApply(player);
+                        } else {
+                            playerEffectService.recalculateSlots(player, mask);
+                        }
                     }
                 } catch (Exception e) {
                     LOGGER.warning(() -> "Recalculation task failed for " + player.getName() + ": " + e.getMessage());
@@ -58,10 +79,28 @@ public final class PlayerRecalculationScheduler {
         });
     }
 
+    /**
+     * 여러 플레이어 재계산 요청 (세트 수정 후 영향받는 플레이어 대상)
+     *
+     * @param playerIds 대상 플레이어 UUID 목록 (오프라인 플레이어는 무시)
+     */
+    public void requestAll(Collection<UUID> playerIds) {
+        if (playerIds == null) {
+            return;
+        }
+        for (UUID playerId : playerIds) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                request(player);
+            }
+        }
+    }
+
     public void cancel(Player player) {
         if (player == null) {
             return;
         }
+        pendingSlots.remove(player.getUniqueId());
         BukkitTask task = pending.remove(player.getUniqueId());
         if (task != null) {
             task.cancel();
@@ -82,6 +121,7 @@ public final class PlayerRecalculationScheduler {
             }
         }
         pending.clear();
+        pendingSlots.clear();
     }
 }
 
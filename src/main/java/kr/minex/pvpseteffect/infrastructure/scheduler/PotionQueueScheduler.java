@@ -0,0 +1,92 @@
+package kr.minex.pvpseteffect.infrastructure.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import kr.minex.pvpseteffect.application.service.PlayerEffectService;
+import kr.minex.pvpseteffect.application.service.PotionOperationQueue;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * IMMEDIATE 모드 포션 작업 큐 처리 스케줄러
+ *
+ * 재계산이 쌓은 포션 적용/제거 작업을 매 틱 설정된 시간 예산만큼 처리합니다.
+ * 접속 폭주나 세트 일괄 수정으로 작업이 몰려도 한 틱에 처리되는 양이 제한되고, 남은 작업은 다음 틱으로 넘어갑니다.
+ *
+ * 모든 메서드는 메인 스레드에서만 호출됩니다.
+ */
+public final class PotionQueueScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(PotionQueueScheduler.class.getName());
+
+    private final Plugin plugin;
+    private final PlayerEffectService playerEffectService;
+    private final long budgetNanos;
+    private final PotionOperationQueue queue = new PotionOperationQueue();
+
+    private BukkitTask task;
+
+    /**
+     * @param plugin 플러그인 인스턴스
+     * @param playerEffectService 플레이어 효과 서비스
+     * @param budgetMicros 틱당 처리 예산 (마이크로초)
+     */
+    public PotionQueueScheduler(Plugin plugin, PlayerEffectService playerEffectService, long budgetMicros) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
+        this.playerEffectService = Objects.requireNonNull(playerEffectService, "playerEffectService cannot be null");
+        this.budgetNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(1L, budgetMicros));
+    }
+
+    /**
+     * 스케줄러 시작 (서비스가 이후 포션 작업을 큐에 쌓음)
+     */
+    public void start() {
+        if (task != null && !task.isCancelled()) {
+            return; // 이미 실행 중
+        }
+
+        playerEffectService.setPotionOperationQueue(queue);
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        LOGGER.info(() -> String.format("포션 작업 큐 시작 (틱당 예산: %dμs)",
+                TimeUnit.NANOSECONDS.toMicros(budgetNanos)));
+    }
+
+    /**
+     * 스케줄러 정지 (남은 작업은 모두 처리한 뒤 즉시 적용 방식으로 되돌림)
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+            playerEffectService.drainPotionOperations(Long.MAX_VALUE);
+            playerEffectService.setPotionOperationQueue(null);
+            LOGGER.info("포션 작업 큐 정지");
+        }
+    }
+
+    /**
+     * 스케줄러 실행 여부 확인
+     */
+    public boolean isRunning() {
+        return task != null && !task.isCancelled();
+    }
+
+    public PotionOperationQueue getQueue() {
+        return queue;
+    }
+
+    private void tick() {
+        try {
+            playerEffectService.drainPotionOperations(budgetNanos);
+        } catch (Exception e) {
+            LOGGER.warning(() -> "포션 작업 큐 처리 중 오류: " + e.getMessage());
+        }
+    }
+
+    public String getMetricsSnapshot() {
+        return queue.getMetricsSnapshot();
+    }
+}
@@ -5,36 +5,78 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
 import kr.minex.pvpseteffect.application.service.PlayerEffectService;
+import kr.minex.pvpseteffect.application.service.PotionRefreshListener;
 import kr.minex.pvpseteffect.domain.vo.PotionApplicationMode;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Logger;
 
 /**
  * NATURAL 모드 포션 효과 재적용 스케줄러
  *
- * 짧은 지속시간의 포션 효과가 만료되기 전에 주기적으로 재적용합니다.
+ * 짧은 지속시간의 포션 효과가 만료되기 전에 재적용합니다.
  * 장비 변경과 독립적으로 효과가 유지되도록 합니다.
+ * 장비 변경은 리스너가 재계산하므로, 여기서는 마지막으로 계산된 상태의 포션만 갱신합니다.
+ *
+ * 고정 주기로 모든 플레이어를 훑는 대신, {@link PlayerEffectService}가 포션을 동기화할 때 알려주는
+ * "효과가 재적용 기준 아래로 떨어지는 틱"을 해시 타이밍 휠에 예약하고 그 틱에 해당 플레이어만 깨웁니다.
+ * 효과가 아직 충분히 남은 플레이어는 포션을 조회하지 않으며, 세트 포션이 없는 플레이어는 비용이 없습니다.
+ *
+ * 다른 스레드에서 들어온 예약은 대기열에 모았다가 다음 틱 시작 시 휠에 넣으며, 그 외 모든 처리는 메인 스레드에서 수행됩니다.
  */
-public final class PotionReapplyScheduler {
+public final class PotionReapplyScheduler implements PotionRefreshListener {
 
     private static final Logger LOGGER = Logger.getLogger(PotionReapplyScheduler.class.getName());
 
+    /**
+     * 휠 슬롯 수 (2의 거듭제곱, 더 먼 예약은 여러 바퀴 뒤에 실행)
+     */
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
     private final Plugin plugin;
     private final PlayerEffectService playerEffectService;
-    private final long intervalTicks;
+    private final long maxDelayTicks;
+
+    private final List<Entry>[] wheel;
+    private final Map<UUID, Entry> scheduled = new HashMap<>();
+    private final List<Entry> due = new ArrayList<>();
+
+    /**
+     * 메인 스레드가 아닌 곳에서 들어온 예약 (다음 틱에 휠로 옮김)
+     */
+    private final Queue<Request> inbox = new ConcurrentLinkedQueue<>();
 
     private BukkitTask task;
+    private long currentTick;
+
+    private long tickCount;
+    private long wokenPlayers;
+    private long wakeNanos;
+    private long maxWokenPerTick;
+    private long maxWakeNanos;
 
     /**
      * @param plugin 플러그인 인스턴스
      * @param playerEffectService 플레이어 효과 서비스
-     * @param intervalTicks 재적용 주기 (틱)
+     * @param maxDelayTicks 예약 최대 지연 (틱, 더 강한 외부 효과 등으로 먼 예약도 이 주기로는 다시 확인)
      */
-    public PotionReapplyScheduler(Plugin plugin, PlayerEffectService playerEffectService, long intervalTicks) {
+    @SuppressWarnings("unchecked")
+    public PotionReapplyScheduler(Plugin plugin, PlayerEffectService playerEffectService, long maxDelayTicks) {
         this.plugin = Objects.requireNonNull(plugin, "plugin cannot be null");
         this.playerEffectService = Objects.requireNonNull(playerEffectService, "playerEffectService cannot be null");
-        this.intervalTicks = Math.max(10L, intervalTicks);
+        this.maxDelayTicks = Math.max(10L, maxDelayTicks);
+        this.wheel = new List[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
     }
 
     /**
@@ -46,8 +88,9 @@ public final class PotionReapplyScheduler {
             return; // 이미 실행 중
         }
 
-        task = Bukkit.getScheduler().runTaskTimer(plugin, this::reapplyAllPlayerPotions, intervalTicks, intervalTicks);
-        LOGGER.info(() -> String.format("포션 재적용 스케줄러 시작 (주기: %d틱)", intervalTicks));
+        playerEffectService.setPotionRefreshListener(this);
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        LOGGER.info(() -> String.format("포션 재적용 스케줄러 시작 (만료 시점 예약, 최대 확인 간격: %d틱)", maxDelayTicks));
     }
 
     /**
@@ -57,6 +100,12 @@ public final class PotionReapplyScheduler {
         if (task != null) {
             task.cancel();
             task = null;
+            playerEffectService.setPotionRefreshListener(null);
+            scheduled.clear();
+            inbox.clear();
+            for (List<Entry> slot : wheel) {
+                slot.clear();
+            }
             LOGGER.info("포션 재적용 스케줄러 정지");
         }
     }
@@ -68,23 +117,110 @@ public final class PotionReapplyScheduler {
         return task != null && !task.isCancelled();
     }
 
+    @Override
+    public void onRefreshScheduled(Player player, int delayTicks) {
+        if (!Bukkit.isPrimaryThread()) {
+            inbox.add(new Request(player, delayTicks));
+            return;
+        }
+        long deadline = currentTick + Math.max(1L, Math.min(maxDelayTicks, delayTicks));
+        Entry entry = new Entry(player, deadline);
+        // 이전 예약은 휠에 남아 있어도 scheduled와 다르므로 깨어날 때 버려짐
+        scheduled.put(player.getUniqueId(), entry);
+        wheel[(int) (deadline & WHEEL_MASK)].add(entry);
+    }
+
+    @Override
+    public void onRefreshCancelled(UUID playerId) {
+        scheduled.remove(playerId);
+    }
+
     /**
-     * 모든 온라인 플레이어에게 포션 효과 재적용
+     * 예약된 플레이어 수
      */
-    private void reapplyAllPlayerPotions() {
-        // NATURAL 모드가 아니면 스킵
-        if (playerEffectService.getPotionApplicationMode() != PotionApplicationMode.NATURAL) {
+    public int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    /**
+     * 한 틱 진행: 이번 틱에 예약된 플레이어만 포션 갱신
+     */
+    private void tick() {
+        for (Request request = inbox.poll(); request != null; request = inbox.poll()) {
+            onRefreshScheduled(request.player(), request.delayTicks());
+        }
+
+        currentTick++;
+        List<Entry> slot = wheel[(int) (currentTick & WHEEL_MASK)];
+        if (slot.isEmpty()) {
+            return;
+        }
+
+        // 이번 바퀴 예약만 꺼내고, 이후 바퀴 예약은 남김 (취소/대체된 예약은 버림)
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            Entry entry = slot.get(i);
+            if (scheduled.get(entry.player.getUniqueId()) != entry) {
+                continue;
+            }
+            if (entry.deadline > currentTick) {
+                slot.set(kept++, entry);
+            } else {
+                scheduled.remove(entry.player.getUniqueId());
+                due.add(entry);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+
+        if (due.isEmpty() || playerEffectService.getPotionApplicationMode() != PotionApplicationMode.NATURAL) {
+            due.clear();
             return;
         }
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        long start = System.nanoTime();
+        for (Entry entry : due) {
+            Player player = entry.player;
             try {
-                // recalculateAndApply는 내부적으로 syncPotionEffects를 호출하여 효과 재적용
-                playerEffectService.recalculateAndApply(player);
+                // 갱신 중 다음 예약이 다시 등록됨
+                playerEffectService.refreshPotions(player);
             } catch (Exception e) {
                 LOGGER.fine(() -> String.format("플레이어 %s 포션 재적용 중 오류 (무시됨): %s",
                         player.getName(), e.getMessage()));
             }
         }
+        long elapsed = System.nanoTime() - start;
+
+        tickCount++;
+        wokenPlayers += due.size();
+        wakeNanos += elapsed;
+        maxWokenPerTick = Math.max(maxWokenPerTick, due.size());
+        maxWakeNanos = Math.max(maxWakeNanos, elapsed);
+        due.clear();
+    }
+
+    /**
+     * 재적용 메트릭 (최대값은 조회 후 초기화)
+     */
+    public String getMetricsSnapshot() {
+        double avgWoken = tickCount == 0 ? 0.0 : (double) wokenPlayers / tickCount;
+        double avgMs = tickCount == 0 ? 0.0 : (wakeNanos / 1_000_000.0) / tickCount;
+        String snapshot = String.format("potionRefreshScheduled=%d potionWakeTicks=%d avgWokenPerTick=%.1f " +
+                        "maxWokenPerTick=%d avgWakeMs=%.3f maxWakeMs=%.3f",
+                scheduled.size(), tickCount, avgWoken, maxWokenPerTick, avgMs, maxWakeNanos / 1_000_000.0);
+        maxWokenPerTick = 0;
+        maxWakeNanos = 0;
+        return snapshot;
+    }
+
+    private record Request(Player player, int delayTicks) { }
+
+    private static final class Entry {
+        private final Player player;
+        private final long deadline;
+
+        private Entry(Player player, long deadline) {
+            this.player = player;
+            this.deadline = deadline;
+        }
     }
 }
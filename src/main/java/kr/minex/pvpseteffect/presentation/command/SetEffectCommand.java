@@ -1,15 +1,21 @@
 package kr.minex.pvpseteffect.presentation.command;
 
+import org.bukkit.Material;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 import kr.minex.pvpseteffect.application.service.SetEffectService;
 import kr.minex.pvpseteffect.domain.entity.SetEffect;
 import kr.minex.pvpseteffect.domain.vo.AbilityType;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
 import kr.minex.pvpseteffect.domain.vo.PotionType;
 import kr.minex.pvpseteffect.domain.vo.SetBonus;
+import kr.minex.pvpseteffect.domain.vo.SetItem;
+import kr.minex.pvpseteffect.domain.vo.SetItemTag;
 import kr.minex.pvpseteffect.infrastructure.config.MessageConfig;
 import kr.minex.pvpseteffect.presentation.gui.SetEffectGUI;
 
@@ -108,6 +114,10 @@ public class SetEffectCommand implements CommandExecutor, TabCompleter {
             case "removebonus":
                 handleRemoveBonus(sender, args);
                 break;
+            case "태그":
+            case "tag":
+                handleTag(sender, args);
+                break;
             default:
                 sendHelp(sender);
                 break;
@@ -397,6 +407,69 @@ public class SetEffectCommand implements CommandExecutor, TabCompleter {
         }
     }
 
+    /**
+     * 손에 든 아이템에 세트 태그를 기록하고, 해당 슬롯을 태그 기준 세트 아이템으로 등록
+     *
+     * 태그가 기록된 아이템은 이름을 바꾸거나 색상 코드가 달라져도 세트로 인식됩니다.
+     */
+    private void handleTag(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(MessageConfig.ERROR_PLAYER_ONLY);
+            return;
+        }
+        if (args.length < 2) {
+            sender.sendMessage(MessageConfig.ERROR_NAME_REQUIRED);
+            return;
+        }
+        if (args.length < 3) {
+            sender.sendMessage(MessageConfig.ERROR_SLOT_REQUIRED);
+            return;
+        }
+
+        String name = args[1];
+        Optional<SetEffect> setEffect = setEffectService.getSetEffect(name);
+        if (setEffect.isEmpty()) {
+            sender.sendMessage(MessageConfig.ERROR_SET_NOT_FOUND);
+            return;
+        }
+
+        EquipmentSlot slot = EquipmentSlot.fromDisplayName(args[2]);
+        if (slot == null) {
+            sender.sendMessage(MessageConfig.ERROR_SLOT_INVALID);
+            return;
+        }
+
+        Player player = (Player) sender;
+        ItemStack item = player.getInventory().getItemInMainHand();
+        if (item == null || item.getType() == Material.AIR) {
+            sender.sendMessage(MessageConfig.ERROR_HAND_EMPTY);
+            return;
+        }
+        if (!slot.isValidMaterial(item.getType())) {
+            sender.sendMessage(MessageConfig.format(MessageConfig.ERROR_SLOT_MATERIAL, slot.getDisplayName()));
+            return;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            sender.sendMessage(MessageConfig.ERROR_HAND_EMPTY);
+            return;
+        }
+
+        // 손에 든 아이템(원본)에 태그를 기록한 뒤 같은 태그로 세트 아이템 등록
+        String tag = SetItemTag.valueOf(setEffect.get().getId(), slot);
+        SetItemTag.write(meta, tag);
+        item.setItemMeta(meta);
+
+        try {
+            setEffectService.setItem(name, slot, SetItem.fromItemStack(slot, item).withTag(tag));
+            setEffectService.saveAll();
+            sender.sendMessage(MessageConfig.format(MessageConfig.ITEM_TAGGED, name, slot.getDisplayName()));
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(MessageConfig.ERROR_SET_NOT_FOUND);
+        }
+    }
+
     private void sendHelp(CommandSender sender) {
         sender.sendMessage(MessageConfig.HELP_HEADER);
         sender.sendMessage(MessageConfig.HELP_TITLE);
@@ -405,6 +478,7 @@ public class SetEffectCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(MessageConfig.HELP_DELETE);
         sender.sendMessage(MessageConfig.HELP_LIST);
         sender.sendMessage(MessageConfig.HELP_CONFIG);
+        sender.sendMessage(MessageConfig.HELP_TAG);
         sender.sendMessage("");
         sender.sendMessage(MessageConfig.HELP_ABILITY);
         sender.sendMessage(MessageConfig.HELP_ABILITY_EX);
@@ -430,11 +504,11 @@ public class SetEffectCommand implements CommandExecutor, TabCompleter {
 
         if (args.length == 1) {
             completions.addAll(Arrays.asList(
-                    "제작", "삭제", "목록", "설정", "능력", "포션", "능력보기", "능력목록", "포션목록", "삭제보너스"
+                    "제작", "삭제", "목록", "설정", "태그", "능력", "포션", "능력보기", "능력목록", "포션목록", "삭제보너스"
             ));
         } else if (args.length == 2) {
             String subCommand = args[0].toLowerCase();
-            if (Arrays.asList("삭제", "설정", "능력", "포션", "능력보기", "삭제보너스").contains(subCommand)) {
+            if (Arrays.asList("삭제", "설정", "태그", "능력", "포션", "능력보기", "삭제보너스").contains(subCommand)) {
                 completions.addAll(setEffectService.getAllSetEffects().stream()
                         .map(SetEffect::getName)
                         .collect(Collectors.toList()));
@@ -445,6 +519,10 @@ public class SetEffectCommand implements CommandExecutor, TabCompleter {
                 completions.addAll(IntStream.rangeClosed(1, 5)
                         .mapToObj(String::valueOf)
                         .collect(Collectors.toList()));
+            } else if ("태그".equals(subCommand)) {
+                completions.addAll(Arrays.stream(EquipmentSlot.values())
+                        .map(EquipmentSlot::getDisplayName)
+                        .collect(Collectors.toList()));
             }
         } else if (args.length == 4) {
             String subCommand = args[0].toLowerCase();
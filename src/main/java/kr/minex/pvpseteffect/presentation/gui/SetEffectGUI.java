@@ -13,6 +13,7 @@ import kr.minex.pvpseteffect.domain.entity.SetEffect;
 import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
 import kr.minex.pvpseteffect.domain.vo.SetBonus;
 import kr.minex.pvpseteffect.domain.vo.SetItem;
+import kr.minex.pvpseteffect.domain.vo.SetItemTag;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -67,10 +68,16 @@ public class SetEffectGUI {
                         lore.add("");
                         lore.add(ChatColor.DARK_GRAY + "━━━━━━━━━━━━━━━━");
                         lore.add(ChatColor.GRAY + "슬롯: " + ChatColor.WHITE + slot.getDisplayName());
-                        if (!setItem.hasCustomName()) {
-                            lore.add(ChatColor.GRAY + "매칭: " + ChatColor.YELLOW + "Material 기준");
-                        } else {
-                            lore.add(ChatColor.GRAY + "매칭: " + ChatColor.GREEN + "이름 기준");
+                        switch (setItem.getMatchMode()) {
+                            case TAG:
+                                lore.add(ChatColor.GRAY + "매칭: " + ChatColor.AQUA + "태그 기준");
+                                break;
+                            case MATERIAL:
+                                lore.add(ChatColor.GRAY + "매칭: " + ChatColor.YELLOW + "Material 기준");
+                                break;
+                            default:
+                                lore.add(ChatColor.GRAY + "매칭: " + ChatColor.GREEN + "이름 기준");
+                                break;
                         }
                         lore.add(ChatColor.YELLOW + "우클릭: 제거");
                         meta.setLore(lore);
@@ -135,6 +142,16 @@ public class SetEffectGUI {
                 ItemStack item = inventory.getItem(guiSlot);
 
                 SetItem setItem = SetItem.fromItemStack(slot, item);
+                if (!setItem.isEmpty()) {
+                    // 이 세트/슬롯의 태그를 기록하고 태그 기준으로 저장 (다른 세트의 태그가 있던 아이템도 덮어씀)
+                    String tag = SetItemTag.valueOf(setEffect.getId(), slot);
+                    ItemMeta meta = item.getItemMeta();
+                    if (meta != null) {
+                        SetItemTag.write(meta, tag);
+                        item.setItemMeta(meta);
+                    }
+                    setItem = setItem.withTag(tag);
+                }
                 setEffectService.setItem(setEffect.getName(), slot, setItem);
             }
 
@@ -1,19 +1,24 @@
 package kr.minex.pvpseteffect.presentation.listener;
 
-import org.bukkit.attribute.Attribute;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityPotionEffectEvent;
 import org.bukkit.event.entity.EntityRegainHealthEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.potion.PotionEffectType;
+import kr.minex.pvpseteffect.application.service.CombatProfile;
 import kr.minex.pvpseteffect.application.service.PlayerEffectService;
-import kr.minex.pvpseteffect.domain.entity.PlayerSetState;
+import kr.minex.pvpseteffect.application.service.TeamCheckCache;
 import kr.minex.pvpseteffect.infrastructure.config.PluginSettings;
 
 import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.logging.Logger;
 
@@ -21,6 +26,10 @@ import java.util.logging.Logger;
  * 전투 관련 세트 효과 적용 리스너
  *
  * 공격/방어 보너스, 회피, 치명타, 흡혈 등의 전투 효과를 처리합니다.
+ * 능력치 상한과 스케일은 재계산 시점에 {@link CombatProfile}로 미리 계산되어 있으므로
+ * 이벤트마다 프로필의 필드만 읽습니다.
+ * 팀 체크 함수 결과는 {@link TeamCheckCache}에 일정 시간 보관합니다.
+ * 플레이어가 관련되지 않았거나 전투 효과를 가진 플레이어가 없으면 조회 없이 바로 반환합니다.
  * Thread-safe Random 사용으로 동시 전투에서도 안전합니다.
  */
 public class CombatListener implements Listener {
@@ -30,6 +39,7 @@ public class CombatListener implements Listener {
     private final PlayerEffectService playerEffectService;
     private volatile BiFunction<Player, Player, Boolean> teamChecker;
     private volatile PluginSettings.CombatSettings settings;
+    private volatile TeamCheckCache teamCheckCache;
 
     public CombatListener(PlayerEffectService playerEffectService) {
         this.playerEffectService = Objects.requireNonNull(playerEffectService, "playerEffectService cannot be null");
@@ -42,136 +52,174 @@ public class CombatListener implements Listener {
                 new PluginSettings.LifestealSettings(0.37, 2.0),
                 2.0,
                 0.0,
-                1.0
+                1.0,
+                new PluginSettings.TeamCacheSettings(TeamCheckCache.DEFAULT_MAX_SIZE, TeamCheckCache.DEFAULT_TTL_SECONDS)
         );
+        this.teamCheckCache = createTeamCheckCache(settings.teamCache());
     }
 
     public void setSettings(PluginSettings.CombatSettings settings) {
         if (settings != null) {
+            PluginSettings.TeamCacheSettings previous = this.settings.teamCache();
             this.settings = settings;
+            if (!settings.teamCache().equals(previous)) {
+                this.teamCheckCache = createTeamCheckCache(settings.teamCache());
+            }
         }
     }
 
+    /**
+     * 팀 체크 함수 등록 (기존 캐시 결과는 모두 버림)
+     */
     public void setTeamChecker(BiFunction<Player, Player, Boolean> checker) {
         this.teamChecker = checker;
+        teamCheckCache.clear();
+    }
+
+    /**
+     * 팀 체크 결과 캐시 (무효화/메트릭용)
+     */
+    public TeamCheckCache getTeamCheckCache() {
+        return teamCheckCache;
+    }
+
+    public boolean hasTeamChecker() {
+        return teamChecker != null;
+    }
+
+    private static TeamCheckCache createTeamCheckCache(PluginSettings.TeamCacheSettings settings) {
+        return new TeamCheckCache(settings.maxSize(), TimeUnit.SECONDS.toMillis(settings.ttlSeconds()));
     }
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onEntityDamage(EntityDamageByEntityEvent event) {
+        PluginSettings.CombatSettings s = this.settings;
+
+        // 빠른 종료: 플레이어가 관련되지 않은 피해(몹끼리, 투사체→몹)이거나 전투 효과 보유자가 없음
+        Entity entity = event.getEntity();
+        Entity damager = event.getDamager();
+        boolean victimIsPlayer = entity instanceof Player;
+        boolean attackerIsPlayer = damager instanceof Player;
+        if ((!victimIsPlayer && !attackerIsPlayer) || !playerEffectService.hasCombatProfiles()) {
+            enforceMinDamage(event, s);
+            return;
+        }
+
+        CombatProfile victimProfile = victimIsPlayer ? playerEffectService.getCombatProfile(entity.getUniqueId()) : null;
+        CombatProfile attackerProfile = attackerIsPlayer && entity instanceof LivingEntity
+                ? playerEffectService.getCombatProfile(damager.getUniqueId()) : null;
+        if (victimProfile == null && attackerProfile == null) {
+            enforceMinDamage(event, s);
+            return;
+        }
+
         // Thread-safe random
         ThreadLocalRandom random = ThreadLocalRandom.current();
-        PluginSettings.CombatSettings s = this.settings;
 
         // 피해자 방어 처리
-        if (event.getEntity() instanceof Player) {
-            Player victim = (Player) event.getEntity();
-            PlayerSetState victimState = playerEffectService.getPlayerState(victim.getUniqueId());
-
-            if (victimState != null) {
-                // 회피 판정
-                double evasionChance = victimState.getEvasionChance();
-                if (evasionChance > 0) {
-                    double clamped = Math.min(evasionChance, s.evasionMaxPercent());
-                    if (random.nextDouble() * 100 < clamped) {
-                        event.setCancelled(true);
-                        LOGGER.fine(() -> String.format("플레이어 %s 회피 성공 (%.1f%%)", victim.getName(), clamped));
-                        return;
-                    }
-                }
+        if (victimProfile != null) {
+            Player victim = (Player) entity;
+
+            // 회피 판정
+            double evasionThreshold = victimProfile.evasionThreshold();
+            if (evasionThreshold > 0 && random.nextDouble() < evasionThreshold) {
+                event.setCancelled(true);
+                LOGGER.fine(() -> String.format("플레이어 %s 회피 성공 (%.1f%%)", victim.getName(), evasionThreshold * 100));
+                return;
+            }
 
-                // 방어력 보너스
-                double defenseBonus = victimState.getDefenseBonus();
-                if (defenseBonus > 0) {
-                    double originalDamage = event.getDamage();
-                    double newDamage = Math.max(s.minDamage(), originalDamage - (defenseBonus / s.defenseScale()));
-                    event.setDamage(newDamage);
-                }
+            // 방어력 보너스
+            double defenseSubtract = victimProfile.defenseSubtract();
+            if (defenseSubtract > 0) {
+                event.setDamage(Math.max(s.minDamage(), event.getDamage() - defenseSubtract));
             }
         }
 
         // 공격자 공격 처리
-        if (event.getDamager() instanceof Player && event.getEntity() instanceof LivingEntity) {
-            Player attacker = (Player) event.getDamager();
-            LivingEntity victim = (LivingEntity) event.getEntity();
+        if (attackerProfile != null) {
+            Player attacker = (Player) damager;
+            LivingEntity victim = (LivingEntity) entity;
+
+            // 공격력 보너스
+            double baseDamage = event.getDamage() + attackerProfile.attackAdd();
+
+            // 치명타 판정
+            double criticalThreshold = attackerProfile.criticalThreshold();
+            if (criticalThreshold > 0 && random.nextDouble() < criticalThreshold) {
+                baseDamage *= attackerProfile.criticalMultiplier();
+                LOGGER.fine(() -> String.format("플레이어 %s 치명타 발생 (%.1f%%)", attacker.getName(), criticalThreshold * 100));
+            }
 
-            PlayerSetState attackerState = playerEffectService.getPlayerState(attacker.getUniqueId());
+            event.setDamage(baseDamage);
 
-            if (attackerState != null) {
-                double baseDamage = event.getDamage();
+            // 흡혈 처리 (PVP에서만)
+            double healAmount = attackerProfile.lifestealHeal();
+            if (healAmount > 0 && victim instanceof Player) {
+                Player victimPlayer = (Player) victim;
+                boolean sameTeam = teamCheckCache.isSameTeam(attacker, victimPlayer, this.teamChecker);
 
-                // 공격력 보너스
-                double attackBonus = attackerState.getAttackBonus();
-                if (attackBonus > 0) {
-                    baseDamage += (attackBonus / s.attackScale());
+                if (!sameTeam && random.nextDouble() < attackerProfile.lifestealChance()) {
+                    heal(attacker, attackerProfile, healAmount);
                 }
+            }
+        }
 
-                // 치명타 판정
-                double critChance = attackerState.getCriticalChance();
-                double critDamage = attackerState.getCriticalDamage();
-
-                if (critChance > 0) {
-                    double clampedChance = Math.min(critChance, s.criticalChanceMaxPercent());
-                    if (random.nextDouble() * 100 < clampedChance) {
-                        double critMultiplier = 1.0 + (critDamage / s.criticalDamageScalePercent());
-                        baseDamage *= critMultiplier;
-                        LOGGER.fine(() -> String.format("플레이어 %s 치명타 발생 (%.1f%%)", attacker.getName(), clampedChance));
-                    }
-                }
+        enforceMinDamage(event, s);
+    }
 
-                event.setDamage(baseDamage);
-
-                // 흡혈 처리 (PVP에서만)
-                if (victim instanceof Player) {
-                    Player victimPlayer = (Player) victim;
-                    double lifesteal = attackerState.getLifestealAmount();
-
-                    if (lifesteal > 0) {
-                        boolean sameTeam = false;
-                        BiFunction<Player, Player, Boolean> checker = this.teamChecker;
-                        if (checker != null) {
-                            try {
-                                Boolean result = checker.apply(attacker, victimPlayer);
-                                sameTeam = result != null && result;
-                            } catch (Exception e) {
-                                LOGGER.warning(() -> String.format("팀 체크 중 오류: %s", e.getMessage()));
-                            }
-                        }
-
-                        if (!sameTeam && random.nextDouble() < s.lifesteal().triggerChance()) {
-                            double healAmount = lifesteal / s.lifesteal().healScale();
-                            double currentHealth = attacker.getHealth();
-                            double maxHealth = 20.0;
-                            try {
-                                var attr = attacker.getAttribute(Attribute.GENERIC_MAX_HEALTH);
-                                if (attr != null) {
-                                    maxHealth = attr.getValue();
-                                }
-                            } catch (Throwable ignored) {
-                                // Keep compatibility with older APIs / mocks.
-                            }
-                            if (maxHealth <= 0) {
-                                maxHealth = 20.0;
-                            }
-                            double newHealth = Math.min(currentHealth + healAmount, maxHealth);
-
-                            if (newHealth > currentHealth) {
-                                attacker.setHealth(newHealth);
-                            }
-                        }
-                    }
-                }
+    /**
+     * 흡혈 회복 (캐시된 최대 체력까지)
+     */
+    private void heal(Player attacker, CombatProfile profile, double healAmount) {
+        double maxHealth = profile.hasMaxHealth() ? profile.maxHealth() : playerEffectService.refreshMaxHealth(attacker);
+        double currentHealth = attacker.getHealth();
+        double newHealth = Math.min(currentHealth + healAmount, maxHealth);
+        if (newHealth <= currentHealth) {
+            return;
+        }
+
+        try {
+            attacker.setHealth(newHealth);
+        } catch (IllegalArgumentException e) {
+            // 캐시보다 실제 최대 체력이 줄어든 경우: 다시 읽어 한 번 더 시도
+            double actualMax = playerEffectService.refreshMaxHealth(attacker);
+            double clamped = Math.min(currentHealth + healAmount, actualMax);
+            if (clamped > currentHealth) {
+                attacker.setHealth(clamped);
             }
         }
+    }
 
-        // 최소 데미지 보장
+    /**
+     * 최소 데미지 보장
+     */
+    private static void enforceMinDamage(EntityDamageByEntityEvent event, PluginSettings.CombatSettings s) {
         if (event.getDamage() < s.minDamage()) {
             event.setDamage(s.minDamage());
         }
     }
 
+    /**
+     * 퇴장한 플레이어의 팀 체크 결과 정리
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        teamCheckCache.invalidate(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * 체력 강화 효과는 최대 체력을 바꾸므로 캐시된 최대 체력을 무효화
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPotionEffect(EntityPotionEffectEvent event) {
+        if (event.getModifiedType() == PotionEffectType.HEALTH_BOOST && event.getEntity() instanceof Player) {
+            playerEffectService.invalidateMaxHealth(event.getEntity().getUniqueId());
+        }
+    }
+
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onEntityRegainHealth(EntityRegainHealthEvent event) {
-        if (!(event.getEntity() instanceof Player)) {
+        if (!(event.getEntity() instanceof Player) || !playerEffectService.hasCombatProfiles()) {
             return;
         }
 
@@ -179,15 +227,10 @@ public class CombatListener implements Listener {
                 event.getRegainReason() == EntityRegainHealthEvent.RegainReason.REGEN) {
 
             Player player = (Player) event.getEntity();
-            PlayerSetState state = playerEffectService.getPlayerState(player.getUniqueId());
-
-            if (state != null) {
-                double regenBonus = state.getRegenerationBonus();
-                if (regenBonus > 0) {
-                    PluginSettings.CombatSettings s = this.settings;
-                    double bonusHeal = regenBonus / s.regenScale();
-                    event.setAmount(event.getAmount() + bonusHeal);
-                }
+            CombatProfile profile = playerEffectService.getCombatProfile(player.getUniqueId());
+
+            if (profile != null && profile.regenAdd() > 0) {
+                event.setAmount(event.getAmount() + profile.regenAdd());
             }
         }
     }
@@ -1,33 +1,60 @@
 package kr.minex.pvpseteffect.presentation.listener;
 
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.ClickType;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
-import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.*;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 import kr.minex.pvpseteffect.application.service.PlayerEffectService;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
 import kr.minex.pvpseteffect.infrastructure.scheduler.PlayerRecalculationScheduler;
 import kr.minex.pvpseteffect.presentation.gui.SetEffectGUI;
 
 /**
  * 장비 변경 감지 및 효과 업데이트 리스너
+ *
+ * Paper 서버에서는 방어구 변경을 {@link PaperArmorChangeListener}가 슬롯 단위로 정확히 감지하므로,
+ * 인벤토리 이벤트 기반 추정은 주무기 슬롯에만 적용합니다.
  */
 public class EquipmentListener implements Listener {
 
+    private static final int WEAPON_MASK = EquipmentSlot.WEAPON.getMask();
+    private static final int HOTBAR_SIZE = 9;
+    private static final EquipmentSlot[] ARMOR_SLOTS = {
+            EquipmentSlot.HELMET, EquipmentSlot.CHESTPLATE, EquipmentSlot.LEGGINGS, EquipmentSlot.BOOTS
+    };
+
     private final PlayerEffectService playerEffectService;
     private final SetEffectGUI setEffectGUI;
     private final PlayerRecalculationScheduler recalculationScheduler;
 
+    /**
+     * true면 방어구 슬롯 변경은 PlayerArmorChangeEvent가 담당
+     */
+    private final boolean armorEventsAvailable;
+
     public EquipmentListener(PlayerEffectService playerEffectService,
                              SetEffectGUI setEffectGUI,
                              PlayerRecalculationScheduler recalculationScheduler) {
+        this(playerEffectService, setEffectGUI, recalculationScheduler, false);
+    }
+
+    public EquipmentListener(PlayerEffectService playerEffectService,
+                             SetEffectGUI setEffectGUI,
+                             PlayerRecalculationScheduler recalculationScheduler,
+                             boolean armorEventsAvailable) {
         this.playerEffectService = playerEffectService;
         this.setEffectGUI = setEffectGUI;
         this.recalculationScheduler = recalculationScheduler;
+        this.armorEventsAvailable = armorEventsAvailable;
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
@@ -56,18 +83,19 @@ public class EquipmentListener implements Listener {
         Player player = (Player) event.getPlayer();
 
         if (!setEffectGUI.isConfigGUI(event.getView().getTitle())) {
-            recalculationScheduler.request(player);
+            requestHeuristic(player);
         }
     }
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onItemHeld(PlayerItemHeldEvent event) {
-        recalculationScheduler.request(event.getPlayer());
+        // 핫바 선택 변경은 주무기 슬롯만 바꿀 수 있음 (이벤트 없이 바뀐 방어구는 증분 재계산이 Material로 확인)
+        recalculationScheduler.request(event.getPlayer(), EquipmentSlot.WEAPON.getMask());
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerDropItem(PlayerDropItemEvent event) {
-        recalculationScheduler.request(event.getPlayer());
+        requestHeuristic(event.getPlayer());
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -82,15 +110,168 @@ public class EquipmentListener implements Listener {
 
         Player player = (Player) event.getWhoClicked();
 
-        InventoryType.SlotType slotType = event.getSlotType();
-        if (slotType == InventoryType.SlotType.ARMOR ||
-                slotType == InventoryType.SlotType.QUICKBAR ||
-                event.isShiftClick()) {
+        int dirtySlots = computeDirtySlots(event, player.getInventory());
+
+        // 방어구 슬롯 변경은 PlayerArmorChangeEvent가 정확히 감지함
+        if (armorEventsAvailable) {
+            dirtySlots &= WEAPON_MASK;
+        }
+        if (dirtySlots == 0) {
+            return;
+        }
+
+        // 세트를 착용하지 않았고 관련 아이템이 모두 세트와 무관하면 결과가 바뀌지 않음
+        if (!playerEffectService.canAffectSets(player.getUniqueId(),
+                event.getCursor(), event.getCurrentItem(), getSwappedItem(event, player))) {
+            return;
+        }
+
+        recalculationScheduler.request(player, dirtySlots);
+    }
+
+    /**
+     * 클릭으로 내용이 바뀔 수 있는 추적 슬롯 마스크 계산
+     *
+     * 추적 슬롯은 방어구 4칸과 현재 들고 있는 핫바 칸(주무기)뿐이므로,
+     * 클릭한 칸, 숫자 키 교환 대상, Shift 클릭 이동 목적지가 이 칸들에 해당할 때만 비트를 세웁니다.
+     *
+     * @return 변경됐을 수 있는 슬롯 마스크 (0이면 추적 슬롯 변화 없음)
+     */
+    private int computeDirtySlots(InventoryClickEvent event, PlayerInventory inventory) {
+        int heldSlot = inventory.getHeldItemSlot();
+        ClickType click = event.getClick();
+        int mask = 0;
+
+        Inventory clicked = event.getClickedInventory();
+        if (clicked instanceof PlayerInventory && clicked.equals(inventory)) {
+            int slot = event.getSlot();
+            EquipmentSlot armorSlot = fromArmorInventorySlot(slot);
+            if (armorSlot != null) {
+                mask |= armorSlot.getMask();
+                if (event.isShiftClick()) {
+                    // 벗은 방어구가 비어 있는 들고 있는 칸으로 들어갈 수 있음
+                    mask |= shiftIntoHeldSlot(inventory, event.getCurrentItem(), heldSlot);
+                }
+            } else if (slot == heldSlot) {
+                mask |= WEAPON_MASK;
+                if (event.isShiftClick()) {
+                    // 들고 있던 방어구는 해당 방어구 칸이 비어 있으면 장착됨
+                    mask |= shiftClickTargets(inventory, event.getCurrentItem(), heldSlot, false);
+                }
+            } else if (event.isShiftClick()) {
+                // 핫바가 아닌 칸(보관함, 보조손)에서의 Shift 클릭만 핫바로 이동할 수 있음
+                mask |= shiftClickTargets(inventory, event.getCurrentItem(), heldSlot, slot >= HOTBAR_SIZE);
+            }
+        } else if (clicked != null && event.isShiftClick()) {
+            // 상단 인벤토리(상자, 제작 결과 등)에서 Shift 클릭: 방어구는 장착되지 않고 핫바로만 들어옴
+            mask |= shiftIntoHeldSlot(inventory, event.getCurrentItem(), heldSlot);
+        }
+
+        // 숫자 키로 들고 있는 칸과 교환
+        if (click == ClickType.NUMBER_KEY && event.getHotbarButton() == heldSlot) {
+            mask |= WEAPON_MASK;
+        }
+        // 더블 클릭은 인벤토리 전체에서 같은 아이템을 모으므로 들고 있는 칸이 비워질 수 있음
+        if (click == ClickType.DOUBLE_CLICK) {
+            mask |= WEAPON_MASK;
+        }
+
+        return mask;
+    }
+
+    /**
+     * 플레이어 인벤토리 내부 Shift 클릭의 이동 목적지 중 추적 슬롯
+     */
+    private static int shiftClickTargets(PlayerInventory inventory, ItemStack item, int heldSlot, boolean toHotbar) {
+        if (isEmpty(item)) {
+            return 0;
+        }
+
+        // 방어구는 해당 방어구 칸이 비어 있으면 장착됨 (무기 슬롯은 모든 아이템을 허용하므로 제외)
+        for (EquipmentSlot slot : ARMOR_SLOTS) {
+            if (slot.isValidMaterial(item.getType()) && isEmpty(getArmor(inventory, slot))) {
+                return slot.getMask();
+            }
+        }
+
+        return toHotbar ? shiftIntoHeldSlot(inventory, item, heldSlot) : 0;
+    }
+
+    /**
+     * 핫바로 들어오는 아이템이 들고 있는 칸에 놓일 수 있으면 주무기 마스크
+     */
+    private static int shiftIntoHeldSlot(PlayerInventory inventory, ItemStack item, int heldSlot) {
+        if (isEmpty(item)) {
+            return 0;
+        }
+        ItemStack held = inventory.getItem(heldSlot);
+        return isEmpty(held) || held.isSimilar(item) ? WEAPON_MASK : 0;
+    }
+
+    /**
+     * 플레이어 인벤토리 방어구 칸 번호(36~39)를 장비 슬롯으로 변환
+     */
+    private static EquipmentSlot fromArmorInventorySlot(int slot) {
+        switch (slot) {
+            case 36:
+                return EquipmentSlot.BOOTS;
+            case 37:
+                return EquipmentSlot.LEGGINGS;
+            case 38:
+                return EquipmentSlot.CHESTPLATE;
+            case 39:
+                return EquipmentSlot.HELMET;
+            default:
+                return null;
+        }
+    }
+
+    private static ItemStack getArmor(PlayerInventory inventory, EquipmentSlot slot) {
+        switch (slot) {
+            case HELMET:
+                return inventory.getHelmet();
+            case CHESTPLATE:
+                return inventory.getChestplate();
+            case LEGGINGS:
+                return inventory.getLeggings();
+            case BOOTS:
+                return inventory.getBoots();
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isEmpty(ItemStack item) {
+        return item == null || item.getType() == Material.AIR;
+    }
 
+    /**
+     * 인벤토리 이벤트로 추정한 장비 변경 재계산 요청
+     *
+     * 방어구 변경 이벤트를 사용할 수 있으면 주무기 슬롯만, 아니면 전체 슬롯을 재계산합니다.
+     */
+    private void requestHeuristic(Player player) {
+        if (armorEventsAvailable) {
+            recalculationScheduler.request(player, WEAPON_MASK);
+        } else {
             recalculationScheduler.request(player);
         }
     }
 
+    /**
+     * 키보드 클릭(숫자 키/F 키)으로 클릭한 슬롯과 맞바뀌는 아이템
+     */
+    private ItemStack getSwappedItem(InventoryClickEvent event, Player player) {
+        ClickType click = event.getClick();
+        if (click == ClickType.NUMBER_KEY) {
+            return player.getInventory().getItem(event.getHotbarButton());
+        }
+        if (click == ClickType.SWAP_OFFHAND) {
+            return player.getInventory().getItemInOffHand();
+        }
+        return null;
+    }
+
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerRespawn(PlayerRespawnEvent event) {
         recalculationScheduler.request(event.getPlayer());
@@ -103,6 +284,7 @@ public class EquipmentListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerSwapHandItems(PlayerSwapHandItemsEvent event) {
-        recalculationScheduler.request(event.getPlayer());
+        // 보조손은 추적하지 않으므로 주무기 슬롯만 변경됨
+        recalculationScheduler.request(event.getPlayer(), EquipmentSlot.WEAPON.getMask());
     }
 }
@@ -0,0 +1,116 @@
+package kr.minex.pvpseteffect.presentation.listener;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.plugin.Plugin;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.infrastructure.scheduler.PlayerRecalculationScheduler;
+
+import java.lang.reflect.Method;
+import java.util.logging.Logger;
+
+/**
+ * Paper PlayerArmorChangeEvent 리스너
+ *
+ * Paper는 방어구 슬롯 하나가 바뀔 때마다 정확한 슬롯 정보와 함께 이벤트를 발생시킵니다.
+ * 이 플러그인은 Spigot API로 빌드되므로 이벤트 클래스를 런타임에 찾아 리플렉션으로 등록하며,
+ * Spigot 서버에서는 {@link #isSupported()}가 false를 반환하고 등록되지 않습니다.
+ */
+public class PaperArmorChangeListener implements Listener {
+
+    private static final Logger LOGGER = Logger.getLogger(PaperArmorChangeListener.class.getName());
+    private static final String EVENT_CLASS_NAME = "com.destroystokyo.paper.event.player.PlayerArmorChangeEvent";
+
+    private static final Class<? extends Event> EVENT_CLASS;
+    private static final Method GET_SLOT_TYPE;
+
+    static {
+        Class<? extends Event> eventClass = null;
+        Method getSlotType = null;
+        try {
+            eventClass = Class.forName(EVENT_CLASS_NAME).asSubclass(Event.class);
+            getSlotType = eventClass.getMethod("getSlotType");
+        } catch (ClassNotFoundException | NoSuchMethodException | ClassCastException e) {
+            eventClass = null;
+            getSlotType = null;
+        }
+        EVENT_CLASS = eventClass;
+        GET_SLOT_TYPE = getSlotType;
+    }
+
+    private final PlayerRecalculationScheduler recalculationScheduler;
+
+    public PaperArmorChangeListener(PlayerRecalculationScheduler recalculationScheduler) {
+        this.recalculationScheduler = recalculationScheduler;
+    }
+
+    /**
+     * 서버가 PlayerArmorChangeEvent를 제공하는지 확인
+     */
+    public static boolean isSupported() {
+        return EVENT_CLASS != null;
+    }
+
+    /**
+     * 이벤트 등록
+     *
+     * @param plugin 플러그인
+     * @throws IllegalStateException 이벤트를 지원하지 않는 서버인 경우
+     */
+    public void register(Plugin plugin) {
+        if (!isSupported()) {
+            throw new IllegalStateException("PlayerArmorChangeEvent를 지원하지 않는 서버입니다");
+        }
+        plugin.getServer().getPluginManager().registerEvent(EVENT_CLASS, this, EventPriority.MONITOR,
+                (listener, event) -> onArmorChange(event), plugin, false);
+    }
+
+    private void onArmorChange(Event event) {
+        if (!EVENT_CLASS.isInstance(event) || !(event instanceof PlayerEvent)) {
+            return;
+        }
+
+        Player player = ((PlayerEvent) event).getPlayer();
+        EquipmentSlot slot = resolveSlot(event);
+        if (slot == null) {
+            // 슬롯을 알 수 없으면 방어구 슬롯 전체 재계산
+            recalculationScheduler.request(player, EquipmentSlot.ALL_SLOTS_MASK & ~EquipmentSlot.WEAPON.getMask());
+            return;
+        }
+        recalculationScheduler.request(player, slot.getMask());
+    }
+
+    private EquipmentSlot resolveSlot(Event event) {
+        try {
+            Object slotType = GET_SLOT_TYPE.invoke(event);
+            return slotType == null ? null : fromPaperSlotType(slotType.toString());
+        } catch (ReflectiveOperationException e) {
+            LOGGER.fine(() -> "PlayerArmorChangeEvent 슬롯 조회 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Paper SlotType 이름을 장비 슬롯으로 변환
+     *
+     * @param name HEAD, CHEST, LEGS, FEET
+     * @return 장비 슬롯, 알 수 없으면 null
+     */
+    static EquipmentSlot fromPaperSlotType(String name) {
+        switch (name) {
+            case "HEAD":
+                return EquipmentSlot.HELMET;
+            case "CHEST":
+                return EquipmentSlot.CHESTPLATE;
+            case "LEGS":
+                return EquipmentSlot.LEGGINGS;
+            case "FEET":
+                return EquipmentSlot.BOOTS;
+            default:
+                return null;
+        }
+    }
+}
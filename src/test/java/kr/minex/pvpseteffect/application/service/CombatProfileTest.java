@@ -0,0 +1,106 @@
+package kr.minex.pvpseteffect.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.domain.entity.PlayerSetState;
+import kr.minex.pvpseteffect.domain.vo.AbilityType;
+import kr.minex.pvpseteffect.domain.vo.SetBonus;
+import kr.minex.pvpseteffect.infrastructure.config.PluginSettings;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CombatProfile 단위 테스트
+ */
+@DisplayName("CombatProfile 테스트")
+class CombatProfileTest {
+
+    private static final PluginSettings.CombatSettings SETTINGS = new PluginSettings.CombatSettings(
+            2.0, 4.0, 50.0, 30.0, 100.0,
+            new PluginSettings.LifestealSettings(0.5, 2.0),
+            5.0, 0.0, 1.0,
+            new PluginSettings.TeamCacheSettings(0, 30)
+    );
+
+    @Test
+    @DisplayName("상한과 스케일을 미리 적용해야 한다")
+    void shouldBakeClampsAndScales() {
+        PlayerSetState state = PlayerSetState.builder(UUID.randomUUID())
+                .applyBonuses(List.of(
+                        SetBonus.createAbilityBonus(1, AbilityType.EVASION, 80),
+                        SetBonus.createAbilityBonus(1, AbilityType.ATTACK_DAMAGE, 6),
+                        SetBonus.createAbilityBonus(1, AbilityType.DEFENSE, 8),
+                        SetBonus.createAbilityBonus(1, AbilityType.CRITICAL_CHANCE, 20),
+                        SetBonus.createAbilityBonus(1, AbilityType.CRITICAL_DAMAGE, 50),
+                        SetBonus.createAbilityBonus(1, AbilityType.LIFESTEAL, 3),
+                        SetBonus.createAbilityBonus(1, AbilityType.REGENERATION, 10)))
+                .build();
+
+        CombatProfile profile = CombatProfile.of(state, SETTINGS);
+
+        assertEquals(0.5, profile.evasionThreshold(), 1e-9);
+        assertEquals(3.0, profile.attackAdd(), 1e-9);
+        assertEquals(2.0, profile.defenseSubtract(), 1e-9);
+        assertEquals(0.2, profile.criticalThreshold(), 1e-9);
+        assertEquals(1.5, profile.criticalMultiplier(), 1e-9);
+        assertEquals(0.5, profile.lifestealChance(), 1e-9);
+        assertEquals(1.5, profile.lifestealHeal(), 1e-9);
+        assertEquals(2.0, profile.regenAdd(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("보너스가 없으면 모든 효과가 0이어야 한다")
+    void shouldBeNeutralWithoutBonuses() {
+        CombatProfile profile = CombatProfile.of(new PlayerSetState(UUID.randomUUID()), SETTINGS);
+
+        assertEquals(0.0, profile.evasionThreshold());
+        assertEquals(0.0, profile.attackAdd());
+        assertEquals(0.0, profile.defenseSubtract());
+        assertEquals(0.0, profile.criticalThreshold());
+        assertEquals(1.0, profile.criticalMultiplier());
+        assertEquals(0.0, profile.lifestealHeal());
+        assertEquals(0.0, profile.regenAdd());
+        assertFalse(profile.hasEffect());
+    }
+
+    @Test
+    @DisplayName("체력 보너스만 있으면 전투 효과가 없어야 한다")
+    void shouldIgnoreNonCombatAbilities() {
+        PlayerSetState state = PlayerSetState.builder(UUID.randomUUID())
+                .applyBonuses(List.of(SetBonus.createAbilityBonus(1, AbilityType.MAX_HEALTH, 10)))
+                .build();
+
+        assertFalse(CombatProfile.of(state, SETTINGS).hasEffect());
+    }
+
+    @Test
+    @DisplayName("전투 능력치가 하나라도 있으면 전투 효과가 있어야 한다")
+    void shouldHaveEffectWithAnyCombatAbility() {
+        PlayerSetState state = PlayerSetState.builder(UUID.randomUUID())
+                .applyBonuses(List.of(SetBonus.createAbilityBonus(1, AbilityType.REGENERATION, 1)))
+                .build();
+
+        assertTrue(CombatProfile.of(state, SETTINGS).hasEffect());
+    }
+
+    @Test
+    @DisplayName("최대 체력은 처음에 알 수 없고 따로 채울 수 있어야 한다")
+    void shouldCacheMaxHealthSeparately() {
+        PlayerSetState state = PlayerSetState.builder(UUID.randomUUID())
+                .applyBonuses(List.of(SetBonus.createAbilityBonus(1, AbilityType.LIFESTEAL, 4)))
+                .build();
+
+        CombatProfile profile = CombatProfile.of(state, SETTINGS);
+        assertFalse(profile.hasMaxHealth());
+
+        CombatProfile cached = profile.withMaxHealth(30.0);
+        assertTrue(cached.hasMaxHealth());
+        assertEquals(30.0, cached.maxHealth());
+        assertEquals(profile.lifestealHeal(), cached.lifestealHeal());
+        assertSame(cached, cached.withMaxHealth(30.0));
+        assertFalse(cached.withMaxHealth(Double.NaN).hasMaxHealth());
+    }
+}
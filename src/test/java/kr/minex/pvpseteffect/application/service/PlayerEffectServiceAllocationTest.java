@@ -0,0 +1,176 @@
+package kr.minex.pvpseteffect.application.service;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.potion.PotionEffectType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.repository.SetEffectRepository;
+import kr.minex.pvpseteffect.domain.vo.AbilityType;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.SetBonus;
+import kr.minex.pvpseteffect.domain.vo.SetItem;
+import kr.minex.pvpseteffect.domain.vo.SetItemTag;
+import org.mockito.Mockito;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재계산 정상 경로의 메모리 할당 회귀 테스트
+ *
+ * 같은 횟수의 Bukkit 장비 조회만 수행한 기준선을 빼서, 플러그인 코드 자체의 호출당 할당량을 측정합니다.
+ */
+@DisplayName("PlayerEffectService 할당 테스트")
+class PlayerEffectServiceAllocationTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 10_000;
+
+    /**
+     * 호출당 허용 할당량 (측정 오차 흡수용, 정상 경로는 0이어야 함)
+     */
+    private static final double MAX_BYTES_PER_CALL = 16.0;
+
+    private ServerMock server;
+    private PlayerMock player;
+    private PlayerEffectService playerEffectService;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        player = server.addPlayer();
+
+        ItemStack helmet = new ItemStack(Material.DIAMOND_HELMET);
+        ItemMeta meta = helmet.getItemMeta();
+        meta.setDisplayName("할당투구");
+        helmet.setItemMeta(meta);
+        player.getInventory().setHelmet(helmet);
+        player.getInventory().setItemInMainHand(new ItemStack(Material.DIAMOND_SWORD));
+
+        SetEffect set = new SetEffect("할당테스트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "할당투구", Material.DIAMOND_HELMET));
+        set.setItem(EquipmentSlot.WEAPON, new SetItem(EquipmentSlot.WEAPON, "sword", Material.DIAMOND_SWORD, false));
+        set.setBonus(1, SetBonus.createAbilityBonus(1, AbilityType.ATTACK_DAMAGE, 5));
+        set.setBonus(2, SetBonus.createPotionBonus(2, PotionEffectType.SPEED, 1));
+
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        playerEffectService = new PlayerEffectService(new SetEffectService(repository), 20 * 60 * 60);
+        playerEffectService.recalculateAndApply(player);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("장비 변화가 없는 재계산은 할당하지 않아야 한다")
+    void unchangedRecalculationShouldNotAllocate() {
+        com.sun.management.ThreadMXBean threads = allocationBean();
+
+        Runnable baseline = () -> readAllEquipment(player);
+        Runnable recalculation = () -> playerEffectService.recalculateAndApply(player);
+
+        assertWithinBudget(threads, baseline, recalculation);
+    }
+
+    @Test
+    @DisplayName("변화 없는 슬롯 증분 재계산은 할당하지 않아야 한다")
+    void unchangedSlotRecalculationShouldNotAllocate() {
+        com.sun.management.ThreadMXBean threads = allocationBean();
+
+        Runnable baseline = () -> {
+            player.isOnline();
+            player.getUniqueId();
+            // 변경 표시가 없는 방어구 슬롯은 Material만 확인
+            readMaterial(player.getInventory().getHelmet());
+            readMaterial(player.getInventory().getChestplate());
+            readMaterial(player.getInventory().getLeggings());
+            readMaterial(player.getInventory().getBoots());
+            readItem(player.getInventory().getItemInMainHand());
+        };
+        Runnable recalculation = () -> playerEffectService.recalculateSlots(player, EquipmentSlot.WEAPON.getMask());
+
+        assertWithinBudget(threads, baseline, recalculation);
+    }
+
+    private void assertWithinBudget(com.sun.management.ThreadMXBean threads, Runnable baseline, Runnable recalculation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            baseline.run();
+            recalculation.run();
+        }
+
+        long baselineBytes = measure(threads, baseline);
+        long recalculationBytes = measure(threads, recalculation);
+        double perCall = (recalculationBytes - baselineBytes) / (double) MEASURE_ITERATIONS;
+
+        assertTrue(perCall <= MAX_BYTES_PER_CALL,
+                String.format("재계산 호출당 %.1f 바이트 할당 (허용: %.1f)", perCall, MAX_BYTES_PER_CALL));
+    }
+
+    private static long measure(com.sun.management.ThreadMXBean threads, Runnable task) {
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            task.run();
+        }
+        return threads.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "할당량 측정을 지원하지 않는 JVM");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "할당량 측정을 지원하지 않는 JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    /**
+     * 재계산이 수행하는 것과 같은 Bukkit 조회만 수행
+     */
+    private static void readAllEquipment(Player player) {
+        player.isOnline();
+        player.getUniqueId();
+        readItem(player.getInventory().getHelmet());
+        readItem(player.getInventory().getChestplate());
+        readItem(player.getInventory().getLeggings());
+        readItem(player.getInventory().getBoots());
+        readItem(player.getInventory().getItemInMainHand());
+    }
+
+    private static void readMaterial(ItemStack item) {
+        if (item != null) {
+            item.getType();
+        }
+    }
+
+    private static void readItem(ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) {
+            return;
+        }
+        if (item.hasItemMeta()) {
+            ItemMeta meta = item.getItemMeta();
+            if (meta != null) {
+                if (meta.hasDisplayName()) {
+                    meta.getDisplayName();
+                }
+                SetItemTag.read(meta);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package kr.minex.pvpseteffect.application.service;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.repository.SetEffectRepository;
+import kr.minex.pvpseteffect.domain.vo.AbilityType;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.SetBonus;
+import kr.minex.pvpseteffect.domain.vo.SetItem;
+import org.mockito.Mockito;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상태 계산/적용 분리 테스트
+ */
+@DisplayName("PlayerEffectService 비동기 계산 테스트")
+class PlayerEffectServiceAsyncTest {
+
+    private ServerMock server;
+    private PlayerEffectService playerEffectService;
+    private final Deque<Runnable> computeTasks = new ArrayDeque<>();
+    private final Deque<Runnable> mainTasks = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+
+        SetEffect set = new SetEffect("비동기테스트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.IRON_HELMET, false));
+        set.setBonus(1, SetBonus.createAbilityBonus(1, AbilityType.ATTACK_DAMAGE, 10));
+
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        playerEffectService = new PlayerEffectService(new SetEffectService(repository));
+        playerEffectService.setExecutors(computeTasks::add, mainTasks::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("계산 결과는 메인 스레드 작업에서만 적용되어야 한다")
+    void shouldApplyOnlyOnMainThreadTask() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.IRON_HELMET));
+
+        playerEffectService.recalculateAndApply(player);
+        drain(computeTasks);
+        assertNull(playerEffectService.getPlayerState(player.getUniqueId()));
+
+        drain(mainTasks);
+        assertEquals(10.0, playerEffectService.getPlayerState(player.getUniqueId()).getAttackBonus());
+    }
+
+    @Test
+    @DisplayName("새 요청 이후 도착한 이전 계산 결과는 버려져야 한다")
+    void shouldDiscardStaleResults() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.IRON_HELMET));
+        playerEffectService.recalculateAndApply(player);
+
+        player.getInventory().setHelmet(null);
+        playerEffectService.recalculateAndApply(player);
+
+        drain(computeTasks);
+        drain(mainTasks);
+
+        assertEquals(0.0, playerEffectService.getPlayerState(player.getUniqueId()).getAttackBonus());
+        assertTrue(playerEffectService.getMetricsSnapshot().contains("staleResults=1"));
+    }
+
+    @Test
+    @DisplayName("계산 중에는 지문이 같아도 재계산을 생략하지 않아야 한다")
+    void shouldNotSkipWhileComputePending() {
+        PlayerMock player = server.addPlayer();
+        playerEffectService.recalculateAndApply(player);
+        drain(computeTasks);
+        drain(mainTasks);
+
+        player.getInventory().setHelmet(new ItemStack(Material.IRON_HELMET));
+        playerEffectService.recalculateAndApply(player);
+        player.getInventory().setHelmet(null);
+        playerEffectService.recalculateAndApply(player);
+
+        assertEquals(2, computeTasks.size());
+        drain(computeTasks);
+        drain(mainTasks);
+        assertEquals(0.0, playerEffectService.getPlayerState(player.getUniqueId()).getAttackBonus());
+    }
+
+    private static void drain(Deque<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+}
@@ -11,11 +11,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.repository.SetEffectRepository;
 import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.PotionApplicationMode;
 import kr.minex.pvpseteffect.domain.vo.SetBonus;
 import kr.minex.pvpseteffect.domain.vo.SetItem;
+import kr.minex.pvpseteffect.infrastructure.config.PluginSettings;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,8 +48,9 @@ class PlayerEffectServicePotionSafetyTest {
         set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
         set.setBonus(1, SetBonus.createPotionBonus(1, PotionEffectType.SPEED, 1)); // amplifier 0
 
-        SetEffectService setEffectService = Mockito.mock(SetEffectService.class);
-        when(setEffectService.getAllSetEffects()).thenReturn(List.of(set));
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        SetEffectService setEffectService = new SetEffectService(repository);
 
         PlayerEffectService playerEffectService = new PlayerEffectService(setEffectService, 20 * 60 * 60);
 
@@ -68,8 +73,9 @@ class PlayerEffectServicePotionSafetyTest {
         set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
         set.setBonus(1, SetBonus.createPotionBonus(1, PotionEffectType.SPEED, 1)); // amplifier 0
 
-        SetEffectService setEffectService = Mockito.mock(SetEffectService.class);
-        when(setEffectService.getAllSetEffects()).thenReturn(List.of(set));
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        SetEffectService setEffectService = new SetEffectService(repository);
 
         PlayerEffectService playerEffectService = new PlayerEffectService(setEffectService, 20 * 60 * 60);
 
@@ -93,4 +99,171 @@ class PlayerEffectServicePotionSafetyTest {
         assertNotNull(afterClear);
         assertEquals(3, afterClear.getAmplifier());
     }
+
+    @Test
+    void refreshPotionsReappliesFromCachedStateWithoutRescanningEquipment() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.DIAMOND_HELMET));
+
+        SetEffect set = new SetEffect("포션테스트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        set.setBonus(1, SetBonus.createPotionBonus(1, PotionEffectType.SPEED, 1)); // amplifier 0
+
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        SetEffectService setEffectService = new SetEffectService(repository);
+
+        PlayerEffectService playerEffectService = new PlayerEffectService(setEffectService);
+        playerEffectService.setPotionSettings(new PluginSettings.PotionSettings(
+                PotionApplicationMode.NATURAL, Integer.MAX_VALUE, new PluginSettings.NaturalPotionSettings(60, 40),
+                new PluginSettings.PotionQueueSettings(0)));
+
+        playerEffectService.recalculateAndApply(player);
+        assertNotNull(player.getPotionEffect(PotionEffectType.SPEED));
+
+        // Effect expired; equipment change not yet seen by any listener.
+        player.removePotionEffect(PotionEffectType.SPEED);
+        player.getInventory().setHelmet(null);
+
+        playerEffectService.refreshPotions(player);
+
+        PotionEffect refreshed = player.getPotionEffect(PotionEffectType.SPEED);
+        assertNotNull(refreshed, "refresh must reuse the cached state instead of rescanning equipment");
+        assertEquals(0, refreshed.getAmplifier());
+        assertTrue(playerEffectService.getMetricsSnapshot().contains("potionRefreshes=1"));
+    }
+
+    @Test
+    void naturalModeSchedulesRefreshWhenEffectDropsBelowHalfDuration() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.DIAMOND_HELMET));
+
+        SetEffect set = new SetEffect("포션테스트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        set.setBonus(1, SetBonus.createPotionBonus(1, PotionEffectType.SPEED, 1)); // amplifier 0
+
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        SetEffectService setEffectService = new SetEffectService(repository);
+
+        PlayerEffectService playerEffectService = new PlayerEffectService(setEffectService);
+        playerEffectService.setPotionSettings(new PluginSettings.PotionSettings(
+                PotionApplicationMode.NATURAL, Integer.MAX_VALUE, new PluginSettings.NaturalPotionSettings(60, 40),
+                new PluginSettings.PotionQueueSettings(0)));
+        PotionRefreshListener listener = Mockito.mock(PotionRefreshListener.class);
+        playerEffectService.setPotionRefreshListener(listener);
+
+        playerEffectService.recalculateAndApply(player);
+        // 60틱 효과는 31틱 뒤 남은 시간이 30틱(절반) 미만이 됨
+        Mockito.verify(listener).onRefreshScheduled(player, 31);
+
+        player.getInventory().setHelmet(null);
+        playerEffectService.recalculateAndApply(player);
+        Mockito.verify(listener).onRefreshCancelled(player.getUniqueId());
+    }
+
+    @Test
+    void queuedPotionOperationsApplyOnlyWhenDrained() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.DIAMOND_HELMET));
+
+        SetEffect set = new SetEffect("포션테스트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        set.setBonus(1, SetBonus.createPotionBonus(1, PotionEffectType.SPEED, 1)); // amplifier 0
+
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        PlayerEffectService playerEffectService = new PlayerEffectService(new SetEffectService(repository), 20 * 60 * 60);
+        PotionOperationQueue queue = new PotionOperationQueue();
+        playerEffectService.setPotionOperationQueue(queue);
+
+        playerEffectService.recalculateAndApply(player);
+        assertNull(player.getPotionEffect(PotionEffectType.SPEED));
+        assertEquals(1, queue.getPendingOperations());
+
+        assertEquals(1, playerEffectService.drainPotionOperations(Long.MAX_VALUE));
+        PotionEffect applied = player.getPotionEffect(PotionEffectType.SPEED);
+        assertNotNull(applied);
+        assertEquals(0, applied.getAmplifier());
+
+        // Unequipping queues a removal that clear must not lose.
+        player.getInventory().setHelmet(null);
+        playerEffectService.recalculateAndApply(player);
+        assertEquals(1, queue.getPendingOperations());
+        playerEffectService.clearPlayerEffects(player);
+        assertNull(player.getPotionEffect(PotionEffectType.SPEED));
+        assertEquals(0, queue.getBacklog());
+    }
+
+    @Test
+    void failedQueuedApplyIsDroppedFromLedger() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.DIAMOND_HELMET));
+
+        SetEffect set = new SetEffect("포션테스트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        set.setBonus(1, SetBonus.createPotionBonus(1, PotionEffectType.SPEED, 1)); // amplifier 0
+
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        PlayerEffectService playerEffectService = new PlayerEffectService(new SetEffectService(repository), 20 * 60 * 60);
+        PotionOperationQueue queue = new PotionOperationQueue();
+        playerEffectService.setPotionOperationQueue(queue);
+
+        playerEffectService.recalculateAndApply(player);
+        // A stronger external effect arrives before the queued apply runs.
+        player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, 200, 5, true, true), true);
+        playerEffectService.drainPotionOperations(Long.MAX_VALUE);
+        assertEquals(5, player.getPotionEffect(PotionEffectType.SPEED).getAmplifier());
+
+        // The failed apply is no longer tracked, so unequipping queues no removal.
+        player.getInventory().setHelmet(null);
+        playerEffectService.recalculateAndApply(player);
+        assertEquals(0, queue.getPendingOperations());
+    }
+
+    @Test
+    void failedComputeReschedulesDuePotionRefresh() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.DIAMOND_HELMET));
+
+        SetEffect set = new SetEffect("포션테스트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        set.setBonus(1, SetBonus.createPotionBonus(1, PotionEffectType.SPEED, 1)); // amplifier 0
+
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        SetEffectService setEffectService = Mockito.spy(new SetEffectService(repository));
+
+        PlayerEffectService playerEffectService = new PlayerEffectService(setEffectService);
+        playerEffectService.setPotionSettings(new PluginSettings.PotionSettings(
+                PotionApplicationMode.NATURAL, Integer.MAX_VALUE, new PluginSettings.NaturalPotionSettings(60, 40),
+                new PluginSettings.PotionQueueSettings(0)));
+        PotionRefreshListener listener = Mockito.mock(PotionRefreshListener.class);
+        playerEffectService.setPotionRefreshListener(listener);
+        List<Runnable> computes = new ArrayList<>();
+        playerEffectService.setExecutors(computes::add, Runnable::run);
+
+        playerEffectService.recalculateAndApply(player);
+        computes.remove(0).run();
+        Mockito.verify(listener).onRefreshScheduled(player, 31);
+
+        // The next compute fails while the refresh that the wheel already consumed is due.
+        SetCatalog catalog = setEffectService.getCatalog();
+        SetCatalog failing = Mockito.mock(SetCatalog.class);
+        when(failing.getGeneration()).thenReturn(catalog.getGeneration());
+        when(failing.getItemIndex()).thenThrow(new IllegalStateException("boom"));
+        Mockito.doReturn(failing).when(setEffectService).getCatalog();
+
+        playerEffectService.recalculateAndApply(player, true);
+        playerEffectService.refreshPotions(player);
+        Mockito.verify(listener, Mockito.times(1)).onRefreshScheduled(player, 1);
+
+        computes.remove(0).run();
+        Mockito.verify(listener, Mockito.times(2)).onRefreshScheduled(player, 1);
+
+        // The retried refresh runs from the cached state again.
+        playerEffectService.refreshPotions(player);
+        Mockito.verify(listener, Mockito.times(2)).onRefreshScheduled(player, 31);
+    }
 }
@@ -0,0 +1,120 @@
+package kr.minex.pvpseteffect.application.service;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.repository.SetEffectRepository;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.SetItem;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세트 착용자 역색인 테스트
+ */
+@DisplayName("PlayerEffectService 착용자 역색인 테스트")
+class PlayerEffectServiceWearerIndexTest {
+
+    private ServerMock server;
+    private SetEffect set;
+    private SetEffectService setEffectService;
+    private PlayerEffectService playerEffectService;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+
+        set = new SetEffect("역색인테스트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.IRON_HELMET, false));
+
+        SetEffectRepository repository = Mockito.mock(SetEffectRepository.class);
+        when(repository.findAll()).thenReturn(List.of(set));
+        when(repository.findByName(set.getName())).thenReturn(Optional.of(set));
+        setEffectService = new SetEffectService(repository);
+        playerEffectService = new PlayerEffectService(setEffectService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("세트 조각을 착용하면 역색인에 등록되고 벗으면 제거되어야 한다")
+    void shouldTrackWearers() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.IRON_HELMET));
+
+        playerEffectService.recalculateAndApply(player);
+        assertTrue(playerEffectService.getPlayersWearing(set.getId()).contains(player.getUniqueId()));
+
+        player.getInventory().setHelmet(null);
+        playerEffectService.recalculateAndApply(player);
+        assertTrue(playerEffectService.getPlayersWearing(set.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("이벤트 없이 바뀐 방어구도 무기 슬롯 증분 재계산에서 반영되어야 한다")
+    void shouldNoticeUnmarkedArmorChangeOnIncrementalRecalculation() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.IRON_HELMET));
+        playerEffectService.recalculateAndApply(player);
+        assertTrue(playerEffectService.getPlayersWearing(set.getId()).contains(player.getUniqueId()));
+
+        // 다른 플러그인의 setHelmet처럼 장비 이벤트 없이 방어구가 바뀜
+        player.getInventory().setHelmet(new ItemStack(Material.GOLDEN_HELMET));
+        playerEffectService.recalculateSlots(player, EquipmentSlot.WEAPON.getMask());
+
+        assertTrue(playerEffectService.getPlayersWearing(set.getId()).isEmpty());
+        assertEquals(0, playerEffectService.getPlayerStateOrEmpty(player.getUniqueId()).getActiveSetCount());
+    }
+
+    @Test
+    @DisplayName("플레이어 상태 제거 시 역색인에서도 제거되어야 한다")
+    void shouldForgetRemovedPlayers() {
+        PlayerMock player = server.addPlayer();
+        player.getInventory().setHelmet(new ItemStack(Material.IRON_HELMET));
+        playerEffectService.recalculateAndApply(player);
+
+        playerEffectService.removePlayerState(player.getUniqueId());
+
+        assertTrue(playerEffectService.getPlayersWearing(set.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("아이템 변경 시 새 아이템을 착용한 플레이어만 대상이 되어야 한다")
+    void shouldFindPlayersAffectedByItemChange() {
+        PlayerMock wearer = server.addPlayer();
+        wearer.getInventory().setHelmet(new ItemStack(Material.IRON_HELMET));
+        PlayerMock candidate = server.addPlayer();
+        candidate.getInventory().setBoots(new ItemStack(Material.GOLDEN_BOOTS));
+        PlayerMock bystander = server.addPlayer();
+        bystander.getInventory().setBoots(new ItemStack(Material.LEATHER_BOOTS));
+        playerEffectService.recalculateAndApply(wearer);
+        playerEffectService.recalculateAndApply(candidate);
+        playerEffectService.recalculateAndApply(bystander);
+
+        setEffectService.setItem(set.getName(), EquipmentSlot.BOOTS,
+                new SetItem(EquipmentSlot.BOOTS, "boots", Material.GOLDEN_BOOTS, false));
+
+        assertEquals(
+                Set.of(wearer.getUniqueId(), candidate.getUniqueId()),
+                playerEffectService.findAffectedPlayers(set.getId(), EquipmentSlot.BOOTS));
+        assertEquals(
+                Set.of(wearer.getUniqueId()),
+                playerEffectService.findAffectedPlayers(set.getId(), null));
+    }
+}
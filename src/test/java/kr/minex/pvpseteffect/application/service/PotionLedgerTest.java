@@ -0,0 +1,67 @@
+package kr.minex.pvpseteffect.application.service;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.potion.PotionEffectType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PotionLedger 단위 테스트
+ */
+@DisplayName("PotionLedger 테스트")
+class PotionLedgerTest {
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("같은 포션 타입은 항상 같은 번호를 받아야 한다")
+    void shouldAssignStableIds() {
+        int speed = PotionLedger.idOf(PotionEffectType.SPEED);
+        int strength = PotionLedger.idOf(PotionEffectType.INCREASE_DAMAGE);
+
+        assertTrue(speed >= 0 && speed < PotionLedger.MAX_TYPES);
+        assertNotEquals(speed, strength);
+        assertEquals(speed, PotionLedger.idOf(PotionEffectType.SPEED));
+        assertEquals(PotionEffectType.SPEED, PotionLedger.typeOf(speed));
+    }
+
+    @Test
+    @DisplayName("보유 마스크에 있는 번호만 레벨을 돌려줘야 한다")
+    void shouldReportAmplifierOnlyWhenOwned() {
+        PotionLedger ledger = new PotionLedger();
+        int id = PotionLedger.idOf(PotionEffectType.SPEED);
+
+        ledger.setAmplifier(id, 2);
+        assertEquals(-1, ledger.getAmplifier(id));
+
+        ledger.setOwnedMask(PotionLedger.bit(id));
+        assertTrue(ledger.owns(id));
+        assertEquals(2, ledger.getAmplifier(id));
+        assertFalse(ledger.owns(-1));
+        assertEquals(-1, ledger.getAmplifier(-1));
+    }
+
+    @Test
+    @DisplayName("최대 레벨 255를 그대로 보관해야 한다")
+    void shouldKeepFullAmplifierRange() {
+        PotionLedger ledger = new PotionLedger();
+        int id = PotionLedger.idOf(PotionEffectType.REGENERATION);
+
+        ledger.setAmplifier(id, 255);
+        ledger.setOwnedMask(PotionLedger.bit(id));
+
+        assertEquals(255, ledger.getAmplifier(id));
+    }
+}
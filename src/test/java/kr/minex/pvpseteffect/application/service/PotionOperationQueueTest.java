@@ -0,0 +1,113 @@
+package kr.minex.pvpseteffect.application.service;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PotionOperationQueue 단위 테스트
+ */
+@DisplayName("PotionOperationQueue 테스트")
+class PotionOperationQueueTest {
+
+    private ServerMock server;
+    private PlayerMock first;
+    private PlayerMock second;
+
+    private final AtomicLong now = new AtomicLong();
+    private final List<String> executed = new ArrayList<>();
+    private final PotionOperationQueue.Handler handler = new PotionOperationQueue.Handler() {
+        @Override
+        public void apply(Player player, int potionId, int amplifier) {
+            executed.add(player.getName() + ":apply:" + potionId + ":" + amplifier);
+            now.addAndGet(100L);
+        }
+
+        @Override
+        public void remove(Player player, int potionId, int amplifier) {
+            executed.add(player.getName() + ":remove:" + potionId + ":" + amplifier);
+            now.addAndGet(100L);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        first = server.addPlayer();
+        second = server.addPlayer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("같은 플레이어/포션의 작업은 마지막 작업으로 합쳐져야 한다")
+    void shouldCollapseToLastOperation() {
+        PotionOperationQueue queue = new PotionOperationQueue(now::get);
+
+        queue.enqueueApply(first, 3, 0);
+        queue.enqueueRemove(first, 3, 0);
+        queue.enqueueApply(first, 3, 2);
+        assertEquals(1, queue.getPendingOperations());
+        assertEquals(2, queue.getCollapsedOperations());
+
+        assertEquals(1, queue.drain(Long.MAX_VALUE, handler));
+        assertEquals(List.of(first.getName() + ":apply:3:2"), executed);
+        assertEquals(0, queue.getBacklog());
+    }
+
+    @Test
+    @DisplayName("예산을 넘으면 남은 플레이어는 다음 틱으로 넘겨야 한다")
+    void shouldRespectBudget() {
+        PotionOperationQueue queue = new PotionOperationQueue(now::get);
+        queue.enqueueApply(first, 1, 0);
+        queue.enqueueApply(second, 1, 0);
+
+        // 예산이 작아도 최소 한 플레이어는 처리
+        assertEquals(1, queue.drain(1L, handler));
+        assertEquals(1, queue.getBacklog());
+        assertEquals(1, queue.getBudgetExhaustedTicks());
+
+        assertEquals(1, queue.drain(1L, handler));
+        assertEquals(List.of(first.getName() + ":apply:1:0", second.getName() + ":apply:1:0"), executed);
+        assertEquals(50.0 / 1_000_000.0, queue.getAverageLatencyMillis(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("효과 정리 시 제거 작업만 즉시 수행해야 한다")
+    void shouldFlushOnlyRemovals() {
+        PotionOperationQueue queue = new PotionOperationQueue(now::get);
+        queue.enqueueRemove(first, 2, 1);
+        queue.enqueueApply(first, 5, 0);
+
+        queue.flushRemovals(first, handler);
+
+        assertEquals(List.of(first.getName() + ":remove:2:1"), executed);
+        assertEquals(0, queue.getBacklog());
+    }
+
+    @Test
+    @DisplayName("오프라인 플레이어의 작업은 버려야 한다")
+    void shouldDropOfflinePlayers() {
+        PotionOperationQueue queue = new PotionOperationQueue(now::get);
+        queue.enqueueApply(first, 1, 0);
+        first.disconnect();
+
+        assertEquals(0, queue.drain(Long.MAX_VALUE, handler));
+        assertTrue(executed.isEmpty());
+        assertEquals(0, queue.getBacklog());
+    }
+}
@@ -1,5 +1,6 @@
 package kr.minex.pvpseteffect.application.service;
 
+import org.bukkit.Material;
 import org.bukkit.potion.PotionEffectType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -91,23 +92,27 @@ class SetEffectServiceTest {
     @DisplayName("이름으로 세트 효과를 조회할 수 있어야 한다")
     void shouldGetSetEffectByName() {
         SetEffect effect = new SetEffect("조회테스트");
-        when(repository.findByName("조회테스트")).thenReturn(Optional.of(effect));
+        when(repository.findAll()).thenReturn(Collections.singletonList(effect));
+        service.loadAll();
 
         Optional<SetEffect> result = service.getSetEffect("조회테스트");
 
         assertTrue(result.isPresent());
         assertEquals("조회테스트", result.get().getName());
+        assertTrue(result.get().isFrozen());
     }
 
     @Test
     @DisplayName("ID로 세트 효과를 조회할 수 있어야 한다")
     void shouldGetSetEffectById() {
         SetEffect effect = new SetEffect("조회테스트");
-        when(repository.findById(effect.getId())).thenReturn(Optional.of(effect));
+        when(repository.findAll()).thenReturn(Collections.singletonList(effect));
+        service.loadAll();
 
         Optional<SetEffect> result = service.getSetEffectById(effect.getId());
 
         assertTrue(result.isPresent());
+        assertEquals(effect.getId(), result.get().getId());
     }
 
     @Test
@@ -116,12 +121,31 @@ class SetEffectServiceTest {
         SetEffect effect1 = new SetEffect("세트1");
         SetEffect effect2 = new SetEffect("세트2");
         when(repository.findAll()).thenReturn(Arrays.asList(effect1, effect2));
+        service.loadAll();
 
         Collection<SetEffect> result = service.getAllSetEffects();
 
         assertEquals(2, result.size());
     }
 
+    @Test
+    @DisplayName("조회한 세트는 수정할 수 없고, 변경은 서비스를 거쳐야 반영되어야 한다")
+    void lookedUpSetShouldBeReadOnly() {
+        SetEffect effect = new SetEffect("읽기전용");
+        when(repository.findAll()).thenReturn(Collections.singletonList(effect));
+        when(repository.findByName("읽기전용")).thenReturn(Optional.of(effect));
+        service.loadAll();
+
+        SetEffect lookedUp = service.getSetEffect("읽기전용").orElseThrow();
+        SetItem helmet = new SetItem(EquipmentSlot.HELMET, "투구", Material.DIAMOND_HELMET);
+        assertThrows(IllegalStateException.class, () -> lookedUp.setItem(EquipmentSlot.HELMET, helmet));
+
+        service.setItem("읽기전용", EquipmentSlot.HELMET, helmet);
+
+        assertEquals(helmet, service.getSetEffect("읽기전용").orElseThrow().getItem(EquipmentSlot.HELMET));
+        assertTrue(lookedUp.getItem(EquipmentSlot.HELMET).isEmpty());
+    }
+
     @Test
     @DisplayName("세트 존재 여부를 확인할 수 있어야 한다")
     void shouldCheckSetExists() {
@@ -224,4 +248,75 @@ class SetEffectServiceTest {
 
         verify(repository).loadAll();
     }
+
+    @Test
+    @DisplayName("세트 변경 시 새 카탈로그 스냅샷이 더 높은 세대로 게시되어야 한다")
+    void shouldPublishNewCatalogOnMutation() {
+        SetEffect effect = new SetEffect("카탈로그테스트");
+        when(repository.existsByName("카탈로그테스트")).thenReturn(false);
+        when(repository.findAll()).thenReturn(Collections.singletonList(effect));
+
+        SetCatalog before = service.getCatalog();
+        service.createSetEffect("카탈로그테스트");
+        SetCatalog after = service.getCatalog();
+
+        assertTrue(after.getGeneration() > before.getGeneration());
+        assertTrue(before.isEmpty());
+        assertEquals(effect, after.findById(effect.getId()));
+        assertTrue(after.findById(effect.getId()).isFrozen());
+        assertEquals(1, after.getSetEffects().size());
+    }
+
+    @Test
+    @DisplayName("게시된 스냅샷은 원본 세트의 이후 수정을 보지 않아야 한다")
+    void catalogShouldNotSeeLaterEditsOfLiveSet() {
+        SetEffect effect = new SetEffect("격리테스트");
+        effect.setBonus(1, SetBonus.createAbilityBonus(1, AbilityType.ATTACK_DAMAGE, 5));
+        SetCatalog catalog = SetCatalog.build(1L, Collections.singletonList(effect));
+
+        effect.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        effect.setBonus(1, SetBonus.createAbilityBonus(1, AbilityType.ATTACK_DAMAGE, 50));
+
+        SetEffect snapshot = catalog.findById(effect.getId());
+        assertTrue(snapshot.getItem(EquipmentSlot.HELMET).isEmpty());
+        assertEquals(5, snapshot.getBonus(1).getValue());
+        assertSame(snapshot.getBonusTable(), snapshot.getBonusTable());
+        assertThrows(IllegalStateException.class, () -> snapshot.removeBonus(1));
+    }
+
+    @Test
+    @DisplayName("카탈로그 스냅샷의 세트 목록은 수정할 수 없어야 한다")
+    void catalogSetEffectsShouldBeUnmodifiable() {
+        SetCatalog catalog = service.getCatalog();
+
+        assertThrows(UnsupportedOperationException.class, () ->
+                catalog.getSetEffects().add(new SetEffect("추가")));
+    }
+
+    @Test
+    @DisplayName("보너스 변경 시 변경 리스너가 슬롯 없이 호출되어야 한다")
+    void shouldNotifyListenerOnBonusChange() {
+        SetEffect effect = new SetEffect("알림테스트");
+        when(repository.findByName("알림테스트")).thenReturn(Optional.of(effect));
+        SetChangeListener listener = mock(SetChangeListener.class);
+        service.addChangeListener(listener);
+
+        service.setAbilityBonus("알림테스트", 2, AbilityType.DEFENSE, 5);
+
+        verify(listener).onSetChanged(effect.getId(), null);
+    }
+
+    @Test
+    @DisplayName("아이템 변경 시 변경 리스너가 해당 슬롯과 함께 호출되어야 한다")
+    void shouldNotifyListenerWithSlotOnItemChange() {
+        SetEffect effect = new SetEffect("알림테스트");
+        when(repository.findByName("알림테스트")).thenReturn(Optional.of(effect));
+        SetChangeListener listener = mock(SetChangeListener.class);
+        service.addChangeListener(listener);
+
+        service.setItem("알림테스트", EquipmentSlot.BOOTS,
+                new SetItem(EquipmentSlot.BOOTS, "부츠", Material.IRON_BOOTS));
+
+        verify(listener).onSetChanged(effect.getId(), EquipmentSlot.BOOTS);
+    }
 }
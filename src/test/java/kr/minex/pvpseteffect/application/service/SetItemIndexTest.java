@@ -0,0 +1,179 @@
+package kr.minex.pvpseteffect.application.service;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.SetItem;
+import kr.minex.pvpseteffect.domain.vo.SetItemTag;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SetItemIndex 단위 테스트
+ */
+@DisplayName("SetItemIndex 테스트")
+class SetItemIndexTest {
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("착용 아이템이 속한 세트만 조회되어야 한다")
+    void shouldResolveOnlyOwningSets() {
+        SetEffect diamond = new SetEffect("다이아세트");
+        diamond.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        SetEffect shared = new SetEffect("공용세트");
+        shared.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        SetEffect other = new SetEffect("다른세트");
+        other.setItem(EquipmentSlot.BOOTS, new SetItem(EquipmentSlot.BOOTS, "boots", Material.DIAMOND_BOOTS, false));
+
+        SetItemIndex index = SetItemIndex.build(List.of(diamond, shared, other));
+
+        List<SetEffect> result = index.lookup(EquipmentSlot.HELMET, new ItemStack(Material.DIAMOND_HELMET));
+
+        assertEquals(2, result.size());
+        assertTrue(result.contains(diamond));
+        assertTrue(result.contains(shared));
+        assertFalse(result.contains(other));
+    }
+
+    @Test
+    @DisplayName("같은 Material이라도 다른 슬롯이면 조회되지 않아야 한다")
+    void shouldNotResolveAcrossSlots() {
+        SetEffect set = new SetEffect("슬롯세트");
+        set.setItem(EquipmentSlot.WEAPON, new SetItem(EquipmentSlot.WEAPON, "sword", Material.DIAMOND_SWORD, false));
+
+        SetItemIndex index = SetItemIndex.build(List.of(set));
+
+        assertTrue(index.lookup(EquipmentSlot.HELMET, new ItemStack(Material.DIAMOND_SWORD)).isEmpty());
+        assertEquals(List.of(set), index.lookup(EquipmentSlot.WEAPON, new ItemStack(Material.DIAMOND_SWORD)));
+    }
+
+    @Test
+    @DisplayName("이름 기준 세트 아이템은 표시 이름이 정확히 일치해야 한다")
+    void shouldRequireExactDisplayNameForNamedItem() {
+        SetEffect set = new SetEffect("이름세트");
+        set.setItem(EquipmentSlot.WEAPON, new SetItem(EquipmentSlot.WEAPON, "전설의 검", Material.DIAMOND_SWORD, true));
+
+        SetItemIndex index = SetItemIndex.build(List.of(set));
+
+        assertEquals(List.of(set), index.lookup(EquipmentSlot.WEAPON, named(Material.DIAMOND_SWORD, "전설의 검")));
+        assertTrue(index.lookup(EquipmentSlot.WEAPON, named(Material.DIAMOND_SWORD, "평범한 검")).isEmpty());
+        assertTrue(index.lookup(EquipmentSlot.WEAPON, new ItemStack(Material.DIAMOND_SWORD)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Material 기준 세트 아이템은 이름이 붙은 아이템과 매칭되지 않아야 한다")
+    void shouldRejectRenamedItemForUnnamedSetItem() {
+        SetEffect set = new SetEffect("기본세트");
+        set.setItem(EquipmentSlot.WEAPON, new SetItem(EquipmentSlot.WEAPON, "sword", Material.DIAMOND_SWORD, false));
+
+        SetItemIndex index = SetItemIndex.build(List.of(set));
+
+        assertTrue(index.lookup(EquipmentSlot.WEAPON, named(Material.DIAMOND_SWORD, "이름 붙은 검")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("빈 슬롯과 미설정 세트는 조회되지 않아야 한다")
+    void shouldIgnoreEmptySlotsAndUnconfiguredSets() {
+        SetItemIndex index = SetItemIndex.build(List.of(new SetEffect("빈세트")));
+
+        assertTrue(index.isEmpty());
+        assertTrue(index.lookup(EquipmentSlot.HELMET, null).isEmpty());
+        assertTrue(index.lookup(EquipmentSlot.HELMET, new ItemStack(Material.AIR)).isEmpty());
+    }
+
+    private static ItemStack named(Material material, String displayName) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(displayName);
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    @Test
+    @DisplayName("태그 기준 세트는 태그로만 조회되어야 한다")
+    void shouldResolveTaggedSetsByTag() {
+        SetEffect tagged = new SetEffect("태그세트");
+        String tag = SetItemTag.valueOf(tagged.getId(), EquipmentSlot.HELMET);
+        tagged.setItem(EquipmentSlot.HELMET,
+                new SetItem(EquipmentSlot.HELMET, "투구", Material.DIAMOND_HELMET, true, tag));
+        SetEffect plain = new SetEffect("일반세트");
+        plain.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.IRON_HELMET, false));
+
+        SetItemIndex index = SetItemIndex.build(List.of(tagged, plain));
+
+        ItemStack item = new ItemStack(Material.IRON_HELMET);
+        ItemMeta meta = item.getItemMeta();
+        SetItemTag.write(meta, tag);
+        item.setItemMeta(meta);
+
+        assertEquals(List.of(tagged), index.lookupTag(EquipmentSlot.HELMET, tag));
+        assertTrue(index.lookupTag(EquipmentSlot.BOOTS, tag).isEmpty());
+        assertTrue(index.lookup(EquipmentSlot.HELMET, Material.DIAMOND_HELMET, "투구").isEmpty());
+
+        List<SetEffect> result = index.lookup(EquipmentSlot.HELMET, item);
+        assertEquals(2, result.size());
+        assertTrue(result.contains(tagged));
+        assertTrue(result.contains(plain));
+    }
+
+    @Test
+    @DisplayName("Material 비트맵은 세트 아이템에 쓰인 Material만 포함해야 한다")
+    void materialBitmapShouldContainOnlySetMaterials() {
+        SetEffect set = new SetEffect("비트맵세트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        set.setItem(EquipmentSlot.WEAPON, new SetItem(EquipmentSlot.WEAPON, "전설검", Material.NETHERITE_SWORD, true));
+
+        SetItemIndex index = SetItemIndex.build(List.of(set));
+
+        assertTrue(index.isSetMaterial(Material.DIAMOND_HELMET));
+        assertTrue(index.isSetMaterial(Material.NETHERITE_SWORD));
+        assertFalse(index.isSetMaterial(Material.DIRT));
+        assertFalse(index.isSetMaterial(null));
+        assertTrue(index.mayMatch(new ItemStack(Material.DIAMOND_HELMET)));
+        assertFalse(index.mayMatch(named(Material.DIRT, "이름 붙은 흙")));
+        assertFalse(SetItemIndex.empty().isSetMaterial(Material.DIAMOND_HELMET));
+    }
+
+    @Test
+    @DisplayName("태그 기준 세트가 있으면 등록된 태그가 있는 아이템만 통과해야 한다")
+    void mayMatchShouldKeepOnlyRegisteredTagsWhenTaggedSetsExist() {
+        SetEffect set = new SetEffect("태그비트맵");
+        String tag = SetItemTag.valueOf(set.getId(), EquipmentSlot.HELMET);
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "투구", Material.DIAMOND_HELMET, true, tag));
+
+        SetItemIndex index = SetItemIndex.build(List.of(set));
+
+        ItemStack upgraded = named(Material.NETHERITE_HELMET, "업그레이드된 투구");
+        ItemMeta meta = upgraded.getItemMeta();
+        SetItemTag.write(meta, tag);
+        upgraded.setItemMeta(meta);
+        assertTrue(index.mayMatch(upgraded));
+
+        ItemStack foreign = named(Material.NETHERITE_HELMET, "다른 세트 투구");
+        ItemMeta foreignMeta = foreign.getItemMeta();
+        SetItemTag.write(foreignMeta, "other:HELMET");
+        foreign.setItemMeta(foreignMeta);
+        assertFalse(index.mayMatch(foreign));
+
+        assertFalse(index.mayMatch(named(Material.NETHERITE_HELMET, "이름만 바꾼 투구")));
+        assertFalse(index.mayMatch(new ItemStack(Material.DIRT)));
+    }
+}
@@ -0,0 +1,96 @@
+package kr.minex.pvpseteffect.application.service;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.ItemKey;
+import kr.minex.pvpseteffect.domain.vo.SetItem;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SetMatchCache 단위 테스트
+ */
+@DisplayName("SetMatchCache 테스트")
+class SetMatchCacheTest {
+
+    private static final ItemKey HELMET = ItemKey.of(Material.DIAMOND_HELMET, null);
+    private static final ItemKey BOOTS = ItemKey.of(Material.DIAMOND_BOOTS, null);
+    private static final ItemKey SWORD = ItemKey.of(Material.DIAMOND_SWORD, null);
+
+    @Test
+    @DisplayName("색인 조회와 같은 결과를 반환하고 재조회는 적중해야 한다")
+    void shouldMatchIndexAndHitOnRepeat() {
+        SetEffect set = diamondSet();
+        SetCatalog catalog = SetCatalog.build(1L, List.of(set));
+        SetMatchCache cache = new SetMatchCache(16);
+
+        assertEquals(List.of(set), cache.lookup(catalog, EquipmentSlot.HELMET, HELMET));
+        assertEquals(List.of(set), cache.lookup(catalog, EquipmentSlot.HELMET, HELMET));
+        assertTrue(cache.lookup(catalog, EquipmentSlot.BOOTS, HELMET).isEmpty());
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거해야 한다")
+    void shouldEvictLeastRecentlyUsed() {
+        SetCatalog catalog = SetCatalog.build(1L, List.of(diamondSet()));
+        SetMatchCache cache = new SetMatchCache(2);
+
+        cache.lookup(catalog, EquipmentSlot.HELMET, HELMET);
+        cache.lookup(catalog, EquipmentSlot.BOOTS, BOOTS);
+        cache.lookup(catalog, EquipmentSlot.HELMET, HELMET);
+        cache.lookup(catalog, EquipmentSlot.WEAPON, SWORD);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        // BOOTS가 제거되었으므로 다시 조회하면 미스
+        long misses = cache.getMisses();
+        cache.lookup(catalog, EquipmentSlot.HELMET, HELMET);
+        assertEquals(misses, cache.getMisses());
+        cache.lookup(catalog, EquipmentSlot.BOOTS, BOOTS);
+        assertEquals(misses + 1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("카탈로그 세대가 바뀌면 이전 결과를 버려야 한다")
+    void shouldInvalidateOnGenerationChange() {
+        SetEffect set = diamondSet();
+        SetMatchCache cache = new SetMatchCache(16);
+        assertEquals(List.of(set), cache.lookup(SetCatalog.build(1L, List.of(set)), EquipmentSlot.HELMET, HELMET));
+
+        SetCatalog emptied = SetCatalog.build(2L, List.of());
+        assertTrue(cache.lookup(emptied, EquipmentSlot.HELMET, HELMET).isEmpty());
+
+        // 이전 세대 카탈로그로의 조회는 캐시를 되돌리지 않음
+        assertEquals(List.of(set), cache.lookup(SetCatalog.build(1L, List.of(set)), EquipmentSlot.HELMET, HELMET));
+        assertTrue(cache.lookup(emptied, EquipmentSlot.HELMET, HELMET).isEmpty());
+    }
+
+    @Test
+    @DisplayName("크기가 0이면 캐시하지 않아야 한다")
+    void zeroSizeShouldBypassCache() {
+        SetEffect set = diamondSet();
+        SetMatchCache cache = new SetMatchCache(0);
+
+        assertEquals(List.of(set), cache.lookup(SetCatalog.build(1L, List.of(set)), EquipmentSlot.HELMET, HELMET));
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new SetMatchCache(-1));
+    }
+
+    private static SetEffect diamondSet() {
+        SetEffect set = new SetEffect("다이아세트");
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        set.setItem(EquipmentSlot.BOOTS, new SetItem(EquipmentSlot.BOOTS, "boots", Material.DIAMOND_BOOTS, false));
+        set.setItem(EquipmentSlot.WEAPON, new SetItem(EquipmentSlot.WEAPON, "sword", Material.DIAMOND_SWORD, false));
+        return set;
+    }
+}
@@ -0,0 +1,133 @@
+package kr.minex.pvpseteffect.application.service;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TeamCheckCache 단위 테스트
+ */
+@DisplayName("TeamCheckCache 테스트")
+class TeamCheckCacheTest {
+
+    private ServerMock server;
+    private PlayerMock attacker;
+    private PlayerMock victim;
+    private PlayerMock other;
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final BiFunction<Player, Player, Boolean> checker = (a, v) -> {
+        calls.incrementAndGet();
+        return true;
+    };
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        attacker = server.addPlayer();
+        victim = server.addPlayer();
+        other = server.addPlayer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("같은 쌍의 재조회는 팀 체크 함수를 다시 호출하지 않아야 한다")
+    void shouldCacheResult() {
+        TeamCheckCache cache = new TeamCheckCache(16, 1000L, now::get);
+
+        assertTrue(cache.isSameTeam(attacker, victim, checker));
+        assertTrue(cache.isSameTeam(attacker, victim, checker));
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("만료된 결과는 다시 조회해야 한다")
+    void shouldExpireEntries() {
+        TeamCheckCache cache = new TeamCheckCache(16, 1000L, now::get);
+
+        cache.isSameTeam(attacker, victim, checker);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000L));
+        cache.isSameTeam(attacker, victim, checker);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("플레이어/쌍/전체 단위로 무효화해야 한다")
+    void shouldInvalidate() {
+        TeamCheckCache cache = new TeamCheckCache(16, 1000L, now::get);
+        cache.isSameTeam(attacker, victim, checker);
+        cache.isSameTeam(victim, attacker, checker);
+        cache.isSameTeam(attacker, other, checker);
+        assertEquals(3, cache.size());
+
+        cache.invalidate(victim.getUniqueId(), attacker.getUniqueId());
+        assertEquals(1, cache.size());
+
+        cache.isSameTeam(attacker, victim, checker);
+        cache.invalidate(other.getUniqueId());
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 오래된 항목을 제거해야 한다")
+    void shouldEvictWhenFull() {
+        TeamCheckCache cache = new TeamCheckCache(1, 1000L, now::get);
+
+        cache.isSameTeam(attacker, victim, checker);
+        cache.isSameTeam(attacker, other, checker);
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    @DisplayName("팀 체크 함수 오류는 다른 팀으로 간주하고 캐시하지 않아야 한다")
+    void shouldNotCacheErrors() {
+        TeamCheckCache cache = new TeamCheckCache(16, 1000L, now::get);
+        BiFunction<Player, Player, Boolean> failing = (a, v) -> {
+            throw new IllegalStateException("db down");
+        };
+
+        assertFalse(cache.isSameTeam(attacker, victim, failing));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getCheckerErrors());
+        assertEquals(1, cache.getCheckerCalls());
+    }
+
+    @Test
+    @DisplayName("크기가 0이면 매번 팀 체크 함수를 호출해야 한다")
+    void shouldBypassWhenDisabled() {
+        TeamCheckCache cache = new TeamCheckCache(0, 1000L, now::get);
+
+        cache.isSameTeam(attacker, victim, checker);
+        cache.isSameTeam(attacker, victim, checker);
+
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -21,11 +21,13 @@ class PlayerSetStateTest {
 
     private UUID playerId;
     private PlayerSetState state;
+    private PlayerSetState.Builder builder;
 
     @BeforeEach
     void setUp() {
         playerId = UUID.randomUUID();
         state = new PlayerSetState(playerId);
+        builder = PlayerSetState.builder(playerId);
     }
 
     @Test
@@ -46,7 +48,8 @@ class PlayerSetStateTest {
     @Test
     @DisplayName("활성 세트 조각을 설정하고 조회할 수 있어야 한다")
     void shouldSetAndGetActiveSetPieces() {
-        state.setActiveSetPieces("testSet", 3);
+        builder.setActiveSetPieces("testSet", 3);
+        state = builder.build();
 
         assertEquals(3, state.getActiveSetPieces("testSet"));
         assertTrue(state.hasAnyActiveSet());
@@ -55,8 +58,9 @@ class PlayerSetStateTest {
     @Test
     @DisplayName("0 이하의 조각 수는 세트를 제거해야 한다")
     void shouldRemoveSetWhenPiecesIsZeroOrLess() {
-        state.setActiveSetPieces("testSet", 3);
-        state.setActiveSetPieces("testSet", 0);
+        builder.setActiveSetPieces("testSet", 3);
+        builder.setActiveSetPieces("testSet", 0);
+        state = builder.build();
 
         assertEquals(0, state.getActiveSetPieces("testSet"));
         assertFalse(state.hasAnyActiveSet());
@@ -68,7 +72,8 @@ class PlayerSetStateTest {
         SetBonus attackBonus = SetBonus.createAbilityBonus(2, AbilityType.ATTACK_DAMAGE, 10);
         SetBonus defenseBonus = SetBonus.createAbilityBonus(3, AbilityType.DEFENSE, 5);
 
-        state.applyBonuses(Arrays.asList(attackBonus, defenseBonus));
+        builder.applyBonuses(Arrays.asList(attackBonus, defenseBonus));
+        state = builder.build();
 
         assertEquals(10.0, state.getAttackBonus());
         assertEquals(5.0, state.getDefenseBonus());
@@ -81,7 +86,8 @@ class PlayerSetStateTest {
         SetBonus bonus1 = SetBonus.createAbilityBonus(2, AbilityType.ATTACK_DAMAGE, 10);
         SetBonus bonus2 = SetBonus.createAbilityBonus(3, AbilityType.ATTACK_DAMAGE, 5);
 
-        state.applyBonuses(Arrays.asList(bonus1, bonus2));
+        builder.applyBonuses(Arrays.asList(bonus1, bonus2));
+        state = builder.build();
 
         assertEquals(15.0, state.getAttackBonus());
     }
@@ -95,7 +101,8 @@ class PlayerSetStateTest {
         SetBonus bonus2 = SetBonus.createPotionBonus(3, mockType, 3);
         SetBonus bonus3 = SetBonus.createPotionBonus(4, mockType, 2);
 
-        state.applyBonuses(Arrays.asList(bonus1, bonus2, bonus3));
+        builder.applyBonuses(Arrays.asList(bonus1, bonus2, bonus3));
+        state = builder.build();
 
         assertEquals(3, state.getPotionLevel(mockType));
     }
@@ -113,10 +120,10 @@ class PlayerSetStateTest {
     @DisplayName("clear 호출 시 모든 상태가 초기화되어야 한다")
     void shouldClearAllState() {
         SetBonus bonus = SetBonus.createAbilityBonus(2, AbilityType.ATTACK_DAMAGE, 10);
-        state.setActiveSetPieces("testSet", 3);
-        state.applyBonuses(Arrays.asList(bonus));
+        builder.setActiveSetPieces("testSet", 3);
+        builder.applyBonuses(Arrays.asList(bonus));
 
-        state.clear();
+        state = builder.clear().build();
 
         assertFalse(state.hasAnyBonus());
         assertFalse(state.hasAnyActiveSet());
@@ -126,7 +133,7 @@ class PlayerSetStateTest {
     @Test
     @DisplayName("모든 개별 능력 getter가 올바르게 동작해야 한다")
     void shouldGetAllIndividualAbilities() {
-        state.applyBonuses(Arrays.asList(
+        builder.applyBonuses(Arrays.asList(
                 SetBonus.createAbilityBonus(1, AbilityType.ATTACK_DAMAGE, 10),
                 SetBonus.createAbilityBonus(1, AbilityType.DEFENSE, 20),
                 SetBonus.createAbilityBonus(1, AbilityType.EVASION, 30),
@@ -136,6 +143,7 @@ class PlayerSetStateTest {
                 SetBonus.createAbilityBonus(1, AbilityType.REGENERATION, 70),
                 SetBonus.createAbilityBonus(1, AbilityType.MAX_HEALTH, 80)
         ));
+        state = builder.build();
 
         assertEquals(10.0, state.getAttackBonus());
         assertEquals(20.0, state.getDefenseBonus());
@@ -150,7 +158,8 @@ class PlayerSetStateTest {
     @Test
     @DisplayName("getAllActiveSetPieces는 unmodifiable 맵을 반환해야 한다")
     void shouldReturnUnmodifiableActiveSetPieces() {
-        state.setActiveSetPieces("testSet", 3);
+        builder.setActiveSetPieces("testSet", 3);
+        state = builder.build();
 
         assertThrows(UnsupportedOperationException.class, () ->
                 state.getAllActiveSetPieces().put("newSet", 1));
@@ -160,7 +169,8 @@ class PlayerSetStateTest {
     @DisplayName("getAllAbilityBonuses는 unmodifiable 맵을 반환해야 한다")
     void shouldReturnUnmodifiableAbilityBonuses() {
         SetBonus bonus = SetBonus.createAbilityBonus(2, AbilityType.ATTACK_DAMAGE, 10);
-        state.applyBonuses(Arrays.asList(bonus));
+        builder.applyBonuses(Arrays.asList(bonus));
+        state = builder.build();
 
         assertThrows(UnsupportedOperationException.class, () ->
                 state.getAllAbilityBonuses().put(AbilityType.DEFENSE, 5.0));
@@ -171,7 +181,8 @@ class PlayerSetStateTest {
     void shouldReturnUnmodifiablePotionBonuses() {
         PotionEffectType mockType = mock(PotionEffectType.class);
         SetBonus bonus = SetBonus.createPotionBonus(2, mockType, 1);
-        state.applyBonuses(Arrays.asList(bonus));
+        builder.applyBonuses(Arrays.asList(bonus));
+        state = builder.build();
 
         assertThrows(UnsupportedOperationException.class, () ->
                 state.getAllPotionBonuses().put(mockType, 5));
@@ -193,8 +204,80 @@ class PlayerSetStateTest {
         long initial = state.getLastUpdated();
 
         Thread.sleep(10);
-        state.setActiveSetPieces("testSet", 1);
+        builder.setActiveSetPieces("testSet", 1);
+        state = builder.build();
 
         assertTrue(state.getLastUpdated() >= initial);
     }
+
+    @Test
+    @DisplayName("빌드된 상태는 이후 빌더 변경의 영향을 받지 않아야 한다")
+    void builtStateShouldBeImmutable() {
+        builder.setActiveSetPieces("testSet", 2);
+        builder.applyBonuses(Arrays.asList(SetBonus.createAbilityBonus(2, AbilityType.ATTACK_DAMAGE, 10)));
+        state = builder.build();
+
+        builder.setActiveSetPieces("testSet", 5);
+        builder.applyBonuses(Arrays.asList(SetBonus.createAbilityBonus(5, AbilityType.ATTACK_DAMAGE, 10)));
+        builder.reset(UUID.randomUUID());
+
+        assertEquals(2, state.getActiveSetPieces("testSet"));
+        assertEquals(10.0, state.getAttackBonus());
+        assertEquals(playerId, state.getPlayerId());
+    }
+
+    @Test
+    @DisplayName("보너스 테이블 적용 결과는 보너스 목록 적용 결과와 같아야 한다")
+    void shouldApplyBonusTableLikeBonusList() {
+        PotionEffectType mockType = mock(PotionEffectType.class);
+        SetEffect setEffect = new SetEffect("테이블세트");
+        setEffect.setBonus(2, SetBonus.createAbilityBonus(2, AbilityType.DEFENSE, 4));
+        setEffect.setBonus(3, SetBonus.createPotionBonus(3, mockType, 2));
+        setEffect.setBonus(4, SetBonus.createAbilityBonus(4, AbilityType.DEFENSE, 6));
+
+        PlayerSetState fromList = builder.applyBonuses(setEffect.getActiveBonuses(4)).build();
+        PlayerSetState fromTable = PlayerSetState.builder(playerId)
+                .applyBonusTable(setEffect.getBonusTable(), 4).build();
+
+        assertEquals(fromList.getDefenseBonus(), fromTable.getDefenseBonus());
+        assertEquals(fromList.getPotionLevel(mockType), fromTable.getPotionLevel(mockType));
+        assertEquals(fromList.getAllAbilityBonuses(), fromTable.getAllAbilityBonuses());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 상태는 빌드 순서와 무관하게 같아야 한다")
+    void equalStatesShouldBeEqualRegardlessOfOrder() {
+        PotionEffectType speed = mock(PotionEffectType.class);
+        PotionEffectType haste = mock(PotionEffectType.class);
+
+        PlayerSetState first = builder
+                .setActiveSetPieces("a", 2)
+                .setActiveSetPieces("b", 3)
+                .applyBonuses(Arrays.asList(
+                        SetBonus.createPotionBonus(2, speed, 1),
+                        SetBonus.createPotionBonus(3, haste, 2)))
+                .build();
+        PlayerSetState second = PlayerSetState.builder(playerId)
+                .setActiveSetPieces("b", 3)
+                .setActiveSetPieces("a", 2)
+                .applyBonuses(Arrays.asList(
+                        SetBonus.createPotionBonus(3, haste, 2),
+                        SetBonus.createPotionBonus(2, speed, 1)))
+                .build();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("내용이 다른 상태는 같지 않아야 한다")
+    void differentStatesShouldNotBeEqual() {
+        PlayerSetState first = builder.setActiveSetPieces("a", 2).build();
+        PlayerSetState second = PlayerSetState.builder(playerId).setActiveSetPieces("a", 3).build();
+        PlayerSetState otherPlayer = PlayerSetState.builder(UUID.randomUUID()).setActiveSetPieces("a", 2).build();
+
+        assertNotEquals(first, second);
+        assertNotEquals(first, otherPlayer);
+        assertNotEquals(state, first);
+    }
 }
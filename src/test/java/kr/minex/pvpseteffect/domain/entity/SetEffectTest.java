@@ -8,6 +8,7 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.bukkit.Material;
 import kr.minex.pvpseteffect.domain.vo.AbilityType;
+import kr.minex.pvpseteffect.domain.vo.BonusTable;
 import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
 import kr.minex.pvpseteffect.domain.vo.SetBonus;
 import kr.minex.pvpseteffect.domain.vo.SetItem;
@@ -151,6 +152,22 @@ class SetEffectTest {
         assertEquals(2, activeBonuses.size());
     }
 
+    @Test
+    @DisplayName("보너스 테이블은 보너스 변경 시 다시 컴파일되어야 한다")
+    void shouldInvalidateBonusTableOnBonusChange() {
+        setEffect.setBonus(2, SetBonus.createAbilityBonus(2, AbilityType.ATTACK_DAMAGE, 5));
+        BonusTable first = setEffect.getBonusTable();
+
+        assertSame(first, setEffect.getBonusTable());
+        assertEquals(5.0, first.getAbility(2, AbilityType.ATTACK_DAMAGE));
+
+        setEffect.setBonus(3, SetBonus.createAbilityBonus(3, AbilityType.ATTACK_DAMAGE, 5));
+        assertEquals(10.0, setEffect.getBonusTable().getAbility(3, AbilityType.ATTACK_DAMAGE));
+
+        setEffect.removeBonus(2);
+        assertEquals(5.0, setEffect.getBonusTable().getAbility(3, AbilityType.ATTACK_DAMAGE));
+    }
+
     @Test
     @DisplayName("같은 ID를 가진 세트는 equals가 true여야 한다")
     void shouldBeEqualForSameId() {
@@ -0,0 +1,98 @@
+package kr.minex.pvpseteffect.domain.vo;
+
+import org.bukkit.potion.PotionEffectType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * BonusTable 단위 테스트
+ */
+@DisplayName("BonusTable 테스트")
+class BonusTableTest {
+
+    @Test
+    @DisplayName("능력치는 착용 개수에 따라 누적 합산되어야 한다")
+    void shouldAccumulateAbilities() {
+        Map<Integer, SetBonus> bonuses = new HashMap<>();
+        bonuses.put(2, SetBonus.createAbilityBonus(2, AbilityType.ATTACK_DAMAGE, 10));
+        bonuses.put(4, SetBonus.createAbilityBonus(4, AbilityType.ATTACK_DAMAGE, 5));
+        bonuses.put(5, SetBonus.createAbilityBonus(5, AbilityType.DEFENSE, 3));
+
+        BonusTable table = BonusTable.compile(bonuses);
+
+        assertEquals(0.0, table.getAbility(1, AbilityType.ATTACK_DAMAGE));
+        assertEquals(10.0, table.getAbility(3, AbilityType.ATTACK_DAMAGE));
+        assertEquals(15.0, table.getAbility(4, AbilityType.ATTACK_DAMAGE));
+        assertEquals(0.0, table.getAbility(4, AbilityType.DEFENSE));
+        assertEquals(3.0, table.getAbility(5, AbilityType.DEFENSE));
+    }
+
+    @Test
+    @DisplayName("능력치 마스크는 설정된 보너스만 표시해야 한다")
+    void shouldTrackAbilityMask() {
+        Map<Integer, SetBonus> bonuses = new HashMap<>();
+        bonuses.put(2, SetBonus.createAbilityBonus(2, AbilityType.LIFESTEAL, 0));
+
+        BonusTable table = BonusTable.compile(bonuses);
+
+        assertEquals(0, table.getAbilityMask(1));
+        assertEquals(1 << AbilityType.LIFESTEAL.ordinal(), table.getAbilityMask(2));
+    }
+
+    @Test
+    @DisplayName("같은 포션은 가장 높은 레벨을 유지해야 한다")
+    void shouldKeepHighestPotionLevel() {
+        PotionEffectType speed = mock(PotionEffectType.class);
+        Map<Integer, SetBonus> bonuses = new HashMap<>();
+        bonuses.put(2, SetBonus.createPotionBonus(2, speed, 2));
+        bonuses.put(3, SetBonus.createPotionBonus(3, speed, 1));
+
+        BonusTable table = BonusTable.compile(bonuses);
+
+        assertEquals(1, table.getPotionTypeCount());
+        assertSame(speed, table.getPotionType(0));
+        assertEquals(BonusTable.NO_POTION, table.getPotionLevel(1, 0));
+        assertEquals(2, table.getPotionLevel(2, 0));
+        assertEquals(2, table.getPotionLevel(5, 0));
+    }
+
+    @Test
+    @DisplayName("능력치 행을 배열에 더할 수 있어야 한다")
+    void shouldAddAbilitiesToTotals() {
+        Map<Integer, SetBonus> bonuses = new HashMap<>();
+        bonuses.put(1, SetBonus.createAbilityBonus(1, AbilityType.CRITICAL_CHANCE, 4));
+        BonusTable table = BonusTable.compile(bonuses);
+
+        double[] totals = new double[AbilityType.values().length];
+        table.addAbilitiesTo(1, totals);
+        table.addAbilitiesTo(5, totals);
+
+        assertEquals(8.0, totals[AbilityType.CRITICAL_CHANCE.ordinal()]);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 착용 개수는 0~5로 보정되어야 한다")
+    void shouldClampPieces() {
+        Map<Integer, SetBonus> bonuses = new HashMap<>();
+        bonuses.put(5, SetBonus.createAbilityBonus(5, AbilityType.DEFENSE, 7));
+        BonusTable table = BonusTable.compile(bonuses);
+
+        assertEquals(0.0, table.getAbility(-1, AbilityType.DEFENSE));
+        assertEquals(7.0, table.getAbility(9, AbilityType.DEFENSE));
+    }
+
+    @Test
+    @DisplayName("빈 테이블은 보너스가 없어야 한다")
+    void emptyTableShouldHaveNoBonus() {
+        BonusTable table = BonusTable.empty();
+
+        assertEquals(0, table.getPotionTypeCount());
+        assertEquals(0, table.getAbilityMask(5));
+    }
+}
@@ -0,0 +1,99 @@
+package kr.minex.pvpseteffect.domain.vo;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EquipmentFingerprint 단위 테스트
+ */
+@DisplayName("EquipmentFingerprint 테스트")
+class EquipmentFingerprintTest {
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("같은 장비와 리비전이면 지문이 같아야 한다")
+    void shouldBeEqualForSameEquipment() {
+        EquipmentFingerprint a = fingerprint(new ItemStack(Material.DIAMOND_HELMET), 1L);
+        EquipmentFingerprint b = fingerprint(new ItemStack(Material.DIAMOND_HELMET), 1L);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+
+    @Test
+    @DisplayName("Material이 다르면 지문이 달라야 한다")
+    void shouldDifferForDifferentMaterial() {
+        EquipmentFingerprint a = fingerprint(new ItemStack(Material.DIAMOND_HELMET), 1L);
+        EquipmentFingerprint b = fingerprint(new ItemStack(Material.IRON_HELMET), 1L);
+
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("표시 이름이 다르면 지문이 달라야 한다")
+    void shouldDifferForDifferentDisplayName() {
+        EquipmentFingerprint plain = fingerprint(new ItemStack(Material.DIAMOND_HELMET), 1L);
+        EquipmentFingerprint named = fingerprint(named(Material.DIAMOND_HELMET, "전설의 투구"), 1L);
+
+        assertNotEquals(plain, named);
+        assertEquals("전설의 투구", named.getDisplayName(EquipmentSlot.HELMET));
+        assertNull(plain.getDisplayName(EquipmentSlot.HELMET));
+    }
+
+    @Test
+    @DisplayName("카탈로그 리비전이 다르면 지문이 달라야 한다")
+    void shouldDifferForDifferentRevision() {
+        EquipmentFingerprint a = fingerprint(new ItemStack(Material.DIAMOND_HELMET), 1L);
+        EquipmentFingerprint b = fingerprint(new ItemStack(Material.DIAMOND_HELMET), 2L);
+
+        assertNotEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("빈 슬롯과 AIR는 같은 지문이어야 한다")
+    void shouldTreatAirAsEmpty() {
+        EquipmentFingerprint air = fingerprint(EquipmentSlot.WEAPON, new ItemStack(Material.AIR), 1L);
+        EquipmentFingerprint empty = fingerprint(EquipmentSlot.WEAPON, null, 1L);
+
+        assertEquals(empty, air);
+        assertNull(air.getMaterial(EquipmentSlot.WEAPON));
+    }
+
+    private static EquipmentFingerprint fingerprint(ItemStack helmet, long revision) {
+        return fingerprint(EquipmentSlot.HELMET, helmet, revision);
+    }
+
+    private static EquipmentFingerprint fingerprint(EquipmentSlot slot, ItemStack item, long revision) {
+        int slots = EquipmentSlot.getTotalSlots();
+        Material[] materials = new Material[slots];
+        String[] displayNames = new String[slots];
+        String[] tags = new String[slots];
+        EquipmentFingerprint.readSlot(item, slot, materials, displayNames, tags);
+        return EquipmentFingerprint.of(materials, displayNames, tags, revision);
+    }
+
+    private static ItemStack named(Material material, String displayName) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(displayName);
+        item.setItemMeta(meta);
+        return item;
+    }
+}
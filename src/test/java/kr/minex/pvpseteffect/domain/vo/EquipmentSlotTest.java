@@ -21,6 +21,18 @@ class EquipmentSlotTest {
         assertEquals(5, EquipmentSlot.getTotalSlots());
     }
 
+    @Test
+    @DisplayName("슬롯 마스크는 서로 겹치지 않고 합치면 전체 마스크가 되어야 한다")
+    void shouldHaveDisjointMasksCoveringAllSlots() {
+        int combined = 0;
+        for (EquipmentSlot slot : EquipmentSlot.values()) {
+            assertEquals(0, combined & slot.getMask());
+            combined |= slot.getMask();
+        }
+
+        assertEquals(EquipmentSlot.ALL_SLOTS_MASK, combined);
+    }
+
     @ParameterizedTest
     @CsvSource({
             "0, HELMET, 투구",
@@ -0,0 +1,122 @@
+package kr.minex.pvpseteffect.domain.vo;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ItemKey 및 SetItem 키 매칭 단위 테스트
+ */
+@DisplayName("ItemKey 테스트")
+class ItemKeyTest {
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("빈 슬롯은 EMPTY 키여야 한다")
+    void shouldReturnEmptyForAirOrNull() {
+        assertSame(ItemKey.EMPTY, ItemKey.of(null));
+        assertSame(ItemKey.EMPTY, ItemKey.of(new ItemStack(Material.AIR)));
+        assertTrue(ItemKey.EMPTY.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Material과 표시 이름을 추출해야 한다")
+    void shouldExtractMaterialAndDisplayName() {
+        ItemKey key = ItemKey.of(named(Material.DIAMOND_HELMET, "전설투구"));
+
+        assertEquals(Material.DIAMOND_HELMET, key.getMaterial());
+        assertTrue(key.hasDisplayName());
+        assertEquals("전설투구", key.getDisplayName());
+        assertEquals(ItemKey.of(Material.DIAMOND_HELMET, "전설투구"), key);
+    }
+
+    @Test
+    @DisplayName("키 매칭은 ItemStack 매칭과 같은 결과여야 한다")
+    void keyMatchingShouldAgreeWithItemStackMatching() {
+        SetItem named = new SetItem(EquipmentSlot.HELMET, "전설투구", Material.DIAMOND_HELMET);
+        SetItem plain = new SetItem(EquipmentSlot.HELMET, "Diamond helmet", Material.DIAMOND_HELMET, false);
+
+        ItemStack[] items = {
+                named(Material.DIAMOND_HELMET, "전설투구"),
+                named(Material.DIAMOND_HELMET, "다른투구"),
+                new ItemStack(Material.DIAMOND_HELMET),
+                new ItemStack(Material.IRON_HELMET),
+                null
+        };
+
+        for (ItemStack item : items) {
+            ItemKey key = ItemKey.of(item);
+            assertEquals(named.matches(item), named.matches(key), String.valueOf(item));
+            assertEquals(plain.matches(item), plain.matches(key), String.valueOf(item));
+        }
+        assertTrue(named.matches(ItemKey.of(items[0])));
+        assertTrue(plain.matches(ItemKey.of(items[2])));
+        assertFalse(plain.matches(ItemKey.of(items[0])));
+    }
+
+    @Test
+    @DisplayName("태그 기준 세트 아이템은 이름이 바뀌어도 태그로 매칭되어야 한다")
+    void tagModeShouldMatchByTagRegardlessOfName() {
+        String tag = SetItemTag.valueOf("set-1", EquipmentSlot.HELMET);
+        SetItem tagged = new SetItem(EquipmentSlot.HELMET, "전설투구", Material.DIAMOND_HELMET, true, tag);
+
+        ItemStack renamed = tagged(named(Material.DIAMOND_HELMET, "§c개명된 투구"), tag);
+        ItemStack otherTag = tagged(named(Material.DIAMOND_HELMET, "전설투구"),
+                SetItemTag.valueOf("set-2", EquipmentSlot.HELMET));
+        ItemStack untagged = named(Material.DIAMOND_HELMET, "전설투구");
+
+        assertEquals(ItemMatchMode.TAG, tagged.getMatchMode());
+        assertEquals(tag, ItemKey.of(renamed).getTag());
+        assertTrue(tagged.matches(renamed));
+        assertTrue(tagged.matches(ItemKey.of(renamed)));
+        assertFalse(tagged.matches(otherTag));
+        assertFalse(tagged.matches(untagged));
+        assertFalse(ItemKey.of(untagged).hasTag());
+    }
+
+    @Test
+    @DisplayName("태그가 기록된 아이템은 태그 기준 세트 아이템으로 변환되어야 한다")
+    void fromItemStackShouldPreserveTag() {
+        String tag = SetItemTag.valueOf("set-1", EquipmentSlot.WEAPON);
+        ItemStack sword = tagged(new ItemStack(Material.DIAMOND_SWORD), tag);
+
+        SetItem setItem = SetItem.fromItemStack(EquipmentSlot.WEAPON, sword);
+
+        assertEquals(ItemMatchMode.TAG, setItem.getMatchMode());
+        assertEquals(tag, setItem.getTag());
+        assertEquals(tag, ItemKey.of(setItem.toItemStack()).getTag());
+        assertEquals(ItemMatchMode.MATERIAL,
+                SetItem.fromItemStack(EquipmentSlot.WEAPON, new ItemStack(Material.DIAMOND_SWORD)).getMatchMode());
+    }
+
+    private static ItemStack tagged(ItemStack item, String tag) {
+        ItemMeta meta = item.getItemMeta();
+        SetItemTag.write(meta, tag);
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    private static ItemStack named(Material material, String displayName) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName(displayName);
+        item.setItemMeta(meta);
+        return item;
+    }
+}
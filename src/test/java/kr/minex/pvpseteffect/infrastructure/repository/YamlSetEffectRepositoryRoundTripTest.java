@@ -11,8 +11,10 @@ import org.junit.jupiter.api.Test;
 import kr.minex.pvpseteffect.domain.entity.SetEffect;
 import kr.minex.pvpseteffect.domain.vo.AbilityType;
 import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.ItemMatchMode;
 import kr.minex.pvpseteffect.domain.vo.SetBonus;
 import kr.minex.pvpseteffect.domain.vo.SetItem;
+import kr.minex.pvpseteffect.domain.vo.SetItemTag;
 
 import java.util.Optional;
 
@@ -65,4 +67,28 @@ class YamlSetEffectRepositoryRoundTripTest {
         assertEquals(PotionEffectType.SPEED, loaded.getBonus(2).getPotionType());
         assertEquals(2, loaded.getBonus(2).getValue());
     }
+
+    @Test
+    void saveAndLoadRoundTripPreservesMatchMode() {
+        YamlSetEffectRepository repo = new YamlSetEffectRepository(plugin);
+
+        SetEffect set = new SetEffect("매칭모드");
+        String tag = SetItemTag.valueOf(set.getId(), EquipmentSlot.WEAPON);
+        set.setItem(EquipmentSlot.HELMET, new SetItem(EquipmentSlot.HELMET, "helmet", Material.DIAMOND_HELMET, false));
+        set.setItem(EquipmentSlot.BOOTS, new SetItem(EquipmentSlot.BOOTS, "전설부츠", Material.DIAMOND_BOOTS, true));
+        set.setItem(EquipmentSlot.WEAPON, new SetItem(EquipmentSlot.WEAPON, "전설검", Material.DIAMOND_SWORD, true, tag));
+
+        repo.save(set);
+        repo.saveAll();
+
+        YamlSetEffectRepository repo2 = new YamlSetEffectRepository(plugin);
+        repo2.loadAll();
+
+        SetEffect loaded = repo2.findByName("매칭모드").orElseThrow();
+        assertEquals(ItemMatchMode.MATERIAL, loaded.getItem(EquipmentSlot.HELMET).getMatchMode());
+        assertEquals(ItemMatchMode.NAME, loaded.getItem(EquipmentSlot.BOOTS).getMatchMode());
+        assertEquals(ItemMatchMode.TAG, loaded.getItem(EquipmentSlot.WEAPON).getMatchMode());
+        assertEquals(tag, loaded.getItem(EquipmentSlot.WEAPON).getTag());
+        assertEquals(set.getItem(EquipmentSlot.WEAPON), loaded.getItem(EquipmentSlot.WEAPON));
+    }
 }
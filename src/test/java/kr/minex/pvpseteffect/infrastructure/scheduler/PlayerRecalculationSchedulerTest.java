@@ -7,10 +7,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import kr.minex.pvpseteffect.application.service.PlayerEffectService;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
 import kr.minex.pvpseteffect.infrastructure.scheduler.PlayerRecalculationScheduler;
 import org.mockito.Mockito;
 import org.bukkit.plugin.Plugin;
 
+import java.util.List;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.times;
 
@@ -61,4 +65,53 @@ class PlayerRecalculationSchedulerTest {
         server.getScheduler().performTicks(1);
         Mockito.verify(service, times(0)).recalculateAndApply(player);
     }
+
+    @Test
+    void weaponOnlyRequestsRecalculateIncrementally() {
+        PlayerMock player = server.addPlayer();
+        PlayerEffectService service = Mockito.mock(PlayerEffectService.class);
+        PlayerRecalculationScheduler scheduler = new PlayerRecalculationScheduler(plugin, service, 1L);
+
+        scheduler.request(player, EquipmentSlot.WEAPON.getMask());
+        scheduler.request(player, EquipmentSlot.WEAPON.getMask());
+
+        server.getScheduler().performTicks(1);
+
+        Mockito.verify(service, times(1)).recalculateSlots(player, EquipmentSlot.WEAPON.getMask());
+        Mockito.verify(service, times(0)).recalculateAndApply(player);
+    }
+
+    @Test
+    void coalescedMasksAreMergedAndFullRequestWins() {
+        PlayerMock player = server.addPlayer();
+        PlayerEffectService service = Mockito.mock(PlayerEffectService.class);
+        PlayerRecalculationScheduler scheduler = new PlayerRecalculationScheduler(plugin, service, 1L);
+
+        scheduler.request(player, EquipmentSlot.WEAPON.getMask());
+        scheduler.request(player, EquipmentSlot.HELMET.getMask());
+        server.getScheduler().performTicks(1);
+
+        Mockito.verify(service, times(1)).recalculateSlots(player,
+                EquipmentSlot.WEAPON.getMask() | EquipmentSlot.HELMET.getMask());
+
+        scheduler.request(player, EquipmentSlot.WEAPON.getMask());
+        scheduler.request(player);
+        server.getScheduler().performTicks(1);
+
+        Mockito.verify(service, times(1)).recalculateAndApply(player);
+    }
+
+    @Test
+    void requestAllSchedulesOnlyOnlinePlayers() {
+        PlayerMock online = server.addPlayer();
+        PlayerEffectService service = Mockito.mock(PlayerEffectService.class);
+        PlayerRecalculationScheduler scheduler = new PlayerRecalculationScheduler(plugin, service, 1L);
+
+        scheduler.requestAll(List.of(online.getUniqueId(), UUID.randomUUID()));
+
+        assertEquals(1, scheduler.getPendingCount());
+        server.getScheduler().performTicks(1);
+
+        Mockito.verify(service, times(1)).recalculateAndApply(online);
+    }
 }
@@ -0,0 +1,137 @@
+package kr.minex.pvpseteffect.infrastructure.scheduler;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.application.service.PlayerEffectService;
+import kr.minex.pvpseteffect.domain.vo.PotionApplicationMode;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PotionReapplySchedulerTest {
+
+    private ServerMock server;
+    private Plugin plugin;
+    private PlayerEffectService service;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.createMockPlugin();
+        service = Mockito.mock(PlayerEffectService.class);
+        when(service.getPotionApplicationMode()).thenReturn(PotionApplicationMode.NATURAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void wakesPlayerExactlyOnScheduledTick() {
+        PlayerMock player = server.addPlayer();
+        PotionReapplyScheduler scheduler = new PotionReapplyScheduler(plugin, service, 200L);
+        scheduler.start();
+        verify(service).setPotionRefreshListener(scheduler);
+
+        scheduler.onRefreshScheduled(player, 5);
+        server.getScheduler().performTicks(4L);
+        verify(service, never()).refreshPotions(any(Player.class));
+
+        server.getScheduler().performTicks(1L);
+        verify(service, times(1)).refreshPotions(player);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    void wakesPlayerAfterMultipleWheelRounds() {
+        PlayerMock player = server.addPlayer();
+        PotionReapplyScheduler scheduler = new PotionReapplyScheduler(plugin, service, 600L);
+        scheduler.start();
+
+        scheduler.onRefreshScheduled(player, 150);
+        server.getScheduler().performTicks(149L);
+        verify(service, never()).refreshPotions(any(Player.class));
+
+        server.getScheduler().performTicks(1L);
+        verify(service, times(1)).refreshPotions(player);
+    }
+
+    @Test
+    void reschedulingReplacesEarlierEntry() {
+        PlayerMock player = server.addPlayer();
+        PotionReapplyScheduler scheduler = new PotionReapplyScheduler(plugin, service, 200L);
+        scheduler.start();
+
+        scheduler.onRefreshScheduled(player, 5);
+        scheduler.onRefreshScheduled(player, 10);
+        server.getScheduler().performTicks(9L);
+        verify(service, never()).refreshPotions(any(Player.class));
+
+        server.getScheduler().performTicks(1L);
+        verify(service, times(1)).refreshPotions(player);
+    }
+
+    @Test
+    void cancelledPlayerIsNotWoken() {
+        PlayerMock player = server.addPlayer();
+        PotionReapplyScheduler scheduler = new PotionReapplyScheduler(plugin, service, 200L);
+        scheduler.start();
+
+        scheduler.onRefreshScheduled(player, 5);
+        scheduler.onRefreshCancelled(player.getUniqueId());
+        server.getScheduler().performTicks(20L);
+
+        verify(service, never()).refreshPotions(any(Player.class));
+    }
+
+    @Test
+    void delayIsCappedAtMaxDelay() {
+        PlayerMock player = server.addPlayer();
+        PotionReapplyScheduler scheduler = new PotionReapplyScheduler(plugin, service, 40L);
+        scheduler.start();
+
+        scheduler.onRefreshScheduled(player, 500);
+        server.getScheduler().performTicks(40L);
+
+        verify(service, times(1)).refreshPotions(player);
+    }
+
+    @Test
+    void doesNothingOutsideNaturalMode() {
+        when(service.getPotionApplicationMode()).thenReturn(PotionApplicationMode.IMMEDIATE);
+        PlayerMock player = server.addPlayer();
+        PotionReapplyScheduler scheduler = new PotionReapplyScheduler(plugin, service, 200L);
+        scheduler.start();
+
+        scheduler.onRefreshScheduled(player, 5);
+        server.getScheduler().performTicks(20L);
+
+        verify(service, never()).refreshPotions(any(Player.class));
+    }
+
+    @Test
+    void acceptsScheduleFromComputeThreadOnNextTick() throws InterruptedException {
+        PlayerMock player = server.addPlayer();
+        PotionReapplyScheduler scheduler = new PotionReapplyScheduler(plugin, service, 200L);
+        scheduler.start();
+
+        Thread compute = new Thread(() -> scheduler.onRefreshScheduled(player, 1));
+        compute.start();
+        compute.join();
+        assertEquals(0, scheduler.getScheduledCount());
+
+        // 대기열은 틱 시작 시 휠로 옮겨지므로 1틱 지연 예약은 그 틱에 처리됨
+        server.getScheduler().performTicks(1L);
+        verify(service, times(1)).refreshPotions(player);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+}
@@ -0,0 +1,97 @@
+package kr.minex.pvpseteffect.presentation.gui;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.application.service.SetEffectService;
+import kr.minex.pvpseteffect.domain.entity.SetEffect;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.domain.vo.ItemMatchMode;
+import kr.minex.pvpseteffect.domain.vo.SetItem;
+import kr.minex.pvpseteffect.domain.vo.SetItemTag;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SetEffectGUI 저장 흐름 테스트
+ */
+@DisplayName("SetEffectGUI 테스트")
+class SetEffectGUITest {
+
+    private static final int BOOTS_GUI_SLOT = 5;
+
+    private ServerMock server;
+    private PlayerMock player;
+    private SetEffectService service;
+    private SetEffectGUI gui;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        player = server.addPlayer();
+        service = Mockito.mock(SetEffectService.class);
+        gui = new SetEffectGUI(service);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("다른 세트의 태그가 있는 아이템은 저장 시 이 세트/슬롯의 태그로 다시 기록되어야 한다")
+    void shouldRetagForeignItemOnSave() {
+        SetEffect setA = new SetEffect("세트A");
+        SetEffect setB = new SetEffect("세트B");
+        when(service.getSetEffectById(setB.getId())).thenReturn(Optional.of(setB));
+
+        gui.openConfigGUI(player, setB);
+        Inventory inventory = player.getOpenInventory().getTopInventory();
+
+        ItemStack boots = new ItemStack(Material.DIAMOND_BOOTS);
+        ItemMeta meta = boots.getItemMeta();
+        SetItemTag.write(meta, SetItemTag.valueOf(setA.getId(), EquipmentSlot.HELMET));
+        boots.setItemMeta(meta);
+        inventory.setItem(BOOTS_GUI_SLOT, boots);
+
+        gui.saveFromGUI(player, inventory);
+
+        String expectedTag = SetItemTag.valueOf(setB.getId(), EquipmentSlot.BOOTS);
+        ArgumentCaptor<SetItem> saved = ArgumentCaptor.forClass(SetItem.class);
+        verify(service).setItem(eq("세트B"), eq(EquipmentSlot.BOOTS), saved.capture());
+        assertEquals(ItemMatchMode.TAG, saved.getValue().getMatchMode());
+        assertEquals(expectedTag, saved.getValue().getTag());
+        assertEquals(expectedTag, SetItemTag.read(inventory.getItem(BOOTS_GUI_SLOT).getItemMeta()));
+    }
+
+    @Test
+    @DisplayName("태그가 없는 아이템도 저장 시 태그 기준으로 등록되어야 한다")
+    void shouldTagFreshItemOnSave() {
+        SetEffect setB = new SetEffect("세트B");
+        when(service.getSetEffectById(setB.getId())).thenReturn(Optional.of(setB));
+
+        gui.openConfigGUI(player, setB);
+        Inventory inventory = player.getOpenInventory().getTopInventory();
+        inventory.setItem(BOOTS_GUI_SLOT, new ItemStack(Material.IRON_BOOTS));
+
+        gui.saveFromGUI(player, inventory);
+
+        ArgumentCaptor<SetItem> saved = ArgumentCaptor.forClass(SetItem.class);
+        verify(service).setItem(eq("세트B"), eq(EquipmentSlot.BOOTS), saved.capture());
+        assertEquals(SetItemTag.valueOf(setB.getId(), EquipmentSlot.BOOTS), saved.getValue().getTag());
+        verify(service).setItem(eq("세트B"), eq(EquipmentSlot.HELMET), eq(SetItem.empty(EquipmentSlot.HELMET)));
+    }
+}
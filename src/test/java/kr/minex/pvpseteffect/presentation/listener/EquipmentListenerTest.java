@@ -0,0 +1,97 @@
+package kr.minex.pvpseteffect.presentation.listener;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Material;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import kr.minex.pvpseteffect.application.service.PlayerEffectService;
+import kr.minex.pvpseteffect.domain.vo.EquipmentSlot;
+import kr.minex.pvpseteffect.infrastructure.scheduler.PlayerRecalculationScheduler;
+import kr.minex.pvpseteffect.presentation.gui.SetEffectGUI;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class EquipmentListenerTest {
+
+    private ServerMock server;
+    private PlayerMock player;
+    private PlayerRecalculationScheduler scheduler;
+    private EquipmentListener listener;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        player = server.addPlayer();
+        player.getInventory().setHeldItemSlot(0);
+
+        PlayerEffectService service = Mockito.mock(PlayerEffectService.class);
+        when(service.canAffectSets(any(), any(), any(), any())).thenReturn(true);
+        SetEffectGUI gui = Mockito.mock(SetEffectGUI.class);
+        scheduler = Mockito.mock(PlayerRecalculationScheduler.class);
+        listener = new EquipmentListener(service, gui, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void shiftClickingHeldArmorMarksArmorSlotDirty() {
+        ItemStack helmet = new ItemStack(Material.DIAMOND_HELMET);
+        player.getInventory().setItem(0, helmet);
+
+        listener.onInventoryClick(shiftClick(player.getInventory(), 0, helmet));
+
+        verify(scheduler).request(player, EquipmentSlot.WEAPON.getMask() | EquipmentSlot.HELMET.getMask());
+    }
+
+    @Test
+    void shiftClickingArmorOutMarksEmptyHeldSlotDirty() {
+        ItemStack helmet = new ItemStack(Material.DIAMOND_HELMET);
+        player.getInventory().setHelmet(helmet);
+
+        listener.onInventoryClick(shiftClick(player.getInventory(), 39, helmet));
+
+        verify(scheduler).request(player, EquipmentSlot.HELMET.getMask() | EquipmentSlot.WEAPON.getMask());
+    }
+
+    @Test
+    void shiftClickingArmorOutIgnoresOccupiedHeldSlot() {
+        ItemStack helmet = new ItemStack(Material.DIAMOND_HELMET);
+        player.getInventory().setHelmet(helmet);
+        player.getInventory().setItem(0, new ItemStack(Material.DIAMOND_SWORD));
+
+        listener.onInventoryClick(shiftClick(player.getInventory(), 39, helmet));
+
+        verify(scheduler).request(player, EquipmentSlot.HELMET.getMask());
+        verify(scheduler, times(1)).request(any(), anyInt());
+    }
+
+    private InventoryClickEvent shiftClick(Inventory clicked, int slot, ItemStack current) {
+        InventoryView view = Mockito.mock(InventoryView.class);
+        when(view.getTitle()).thenReturn("Crafting");
+
+        InventoryClickEvent event = Mockito.mock(InventoryClickEvent.class);
+        when(event.getWhoClicked()).thenReturn(player);
+        when(event.getView()).thenReturn(view);
+        when(event.getClickedInventory()).thenReturn(clicked);
+        when(event.getSlot()).thenReturn(slot);
+        when(event.getClick()).thenReturn(ClickType.SHIFT_LEFT);
+        when(event.isShiftClick()).thenReturn(true);
+        when(event.getCurrentItem()).thenReturn(current);
+        when(event.getHotbarButton()).thenReturn(-1);
+        return event;
+    }
+}